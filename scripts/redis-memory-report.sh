@@ -0,0 +1,86 @@
+#!/usr/bin/env bash
+# Redis 토큰 저장소 메모리 비교: 이전 키 구조 vs 압축 키 구조 (RedisTokenStore)
+#
+# 사용법 (프로젝트 루트에서):
+#   scripts/redis-memory-report.sh [세션 수(기본 100000)]
+#
+# - 대상 Redis는 REDIS_HOST, REDIS_PORT, REDIS_PASSWORD, REDIS_DB(기본 15) 환경 변수로 지정한다. (redis-cli 필요)
+#   측정 전후로 REDIS_DB를 FLUSHDB 하고 INFO memory의 used_memory 차이를 재므로, 다른 트래픽이 없는 전용 인스턴스에서 실행한다.
+# - 세션 하나 = 로그인 한 번(리프레시 토큰 저장) + 로그아웃 한 번(액세스 토큰 블랙리스트 등록)
+#   - 이전 구조: refresh:<username> = 토큰 원문, blacklist:<jti 16진수> = "true"
+#   - 압축 구조: rt:<username> = SHA-256(32바이트), bl:<만료 버킷> SET에 jti 8바이트 (액세스 토큰 15분 = 버킷 15개)
+# - 결과: 구조별 항목당 바이트, build/reports/redis-memory/summary.txt
+set -euo pipefail
+
+SESSIONS=${1:-100000}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+REPORT_DIR="$ROOT/build/reports/redis-memory"
+# 리프레시 토큰 원문 길이 (HS256, username/jti/iat/exp 클레임 기준 약 200자)
+TOKEN_LENGTH=${TOKEN_LENGTH:-200}
+BUCKET_SECONDS=${BUCKET_SECONDS:-60}
+CLI=(redis-cli -h "${REDIS_HOST:-127.0.0.1}" -p "${REDIS_PORT:-6379}" -n "${REDIS_DB:-15}")
+if [[ -n "${REDIS_PASSWORD:-}" ]]; then
+  CLI+=(-a "$REDIS_PASSWORD" --no-auth-warning)
+fi
+
+mkdir -p "$REPORT_DIR"
+
+used_memory() {
+  "${CLI[@]}" INFO memory | tr -d '\r' | awk -F: '$1 == "used_memory" {print $2}'
+}
+
+# 레이아웃(legacy-refresh | legacy-blacklist | compact-refresh | compact-blacklist)의 명령을 RESP로 출력
+# (바이너리 값이 섞이므로 redis-cli --pipe에 프로토콜 그대로 넘긴다)
+generate() {
+  LC_ALL=C awk -v layout="$1" -v n="$SESSIONS" -v token_length="$TOKEN_LENGTH" \
+      -v bucket_ms="$((BUCKET_SECONDS * 1000))" -v now_ms="$(date +%s%3N)" '
+    function bulk(s) { printf "$%d\r\n%s\r\n", length(s), s }
+    function binary(len,    i) {
+      printf "$%d\r\n", len
+      for (i = 0; i < len; i++) printf "%c", int(rand() * 256)
+      printf "\r\n"
+    }
+    BEGIN {
+      srand(1)
+      token = sprintf("%" token_length "s", ""); gsub(/ /, "x", token)
+      for (i = 0; i < n; i++) {
+        username = "user" i
+        # 액세스 토큰 만료 시각을 15분에 고르게 흩뜨린다
+        expires_at = now_ms + 60000 + (i % 900) * 1000
+        if (layout == "legacy-refresh") {
+          printf "*5\r\n"; bulk("SET"); bulk("refresh:" username); bulk(token); bulk("PX"); bulk("86400000")
+        } else if (layout == "legacy-blacklist") {
+          printf "*5\r\n"; bulk("SET"); bulk("blacklist:" sprintf("1%04x%08x", i % 65536, int(i / 65536))); bulk("true"); bulk("PX"); bulk("900000")
+        } else if (layout == "compact-refresh") {
+          printf "*4\r\n"; bulk("PSETEX"); bulk("rt:" username); bulk("86400000"); binary(32)
+        } else {
+          bucket = int(expires_at / bucket_ms)
+          printf "*3\r\n"; bulk("SADD"); bulk("bl:" bucket); binary(8)
+          if (!(bucket in seen)) {
+            seen[bucket] = 1
+            printf "*3\r\n"; bulk("PEXPIREAT"); bulk("bl:" bucket); bulk(sprintf("%.0f", (bucket + 2) * bucket_ms))
+          }
+        }
+      }
+    }'
+}
+
+# 한 레이아웃을 빈 DB에 적재하고 항목당 바이트 출력
+measure() {
+  "${CLI[@]}" FLUSHDB >/dev/null
+  local before after
+  before=$(used_memory)
+  generate "$1" | "${CLI[@]}" --pipe >/dev/null
+  after=$(used_memory)
+  "${CLI[@]}" FLUSHDB >/dev/null
+  echo $(((after - before) / SESSIONS))
+}
+
+{
+  printf '%-10s %12s %12s %12s   (%s sessions, used_memory delta)\n' layout refresh blacklist session "$SESSIONS"
+  for layout in legacy compact; do
+    refresh=$(measure "$layout-refresh")
+    blacklist=$(measure "$layout-blacklist")
+    printf '%-10s %11sB %11sB %11sB\n' "$layout" "$refresh" "$blacklist" "$((refresh + blacklist))"
+  done
+} | tee "$REPORT_DIR/summary.txt"
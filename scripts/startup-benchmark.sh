@@ -0,0 +1,92 @@
+#!/usr/bin/env bash
+# 시작 시간 / RSS 비교: JVM, JVM + AOT + CDS, native image
+#
+# 사용법 (프로젝트 루트에서):
+#   gradle bootJar cdsArchive          # JVM, JVM+CDS 준비 (cdsArchive는 DB/Redis 접속 필요)
+#   gradle nativeCompile               # 선택: GraalVM JDK에서 native image 빌드
+#   scripts/startup-benchmark.sh [반복 횟수(기본 5)]
+#
+# - 실행 환경(DB, Redis)은 SPRING_DATASOURCE_URL, SPRING_DATA_REDIS_HOST 등 환경 변수로 넘긴다.
+# - 시작 시간은 스프링이 출력하는 "Started ... in X seconds (process running for Y)"의 Y(프로세스 시작부터),
+#   RSS는 시작 완료 직후 /proc/<pid>/status 의 VmRSS 값이다.
+# - 결과: 모드별 중앙값, build/reports/startup/summary.txt
+set -euo pipefail
+
+RUNS=${1:-5}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+JAR=$(ls "$ROOT"/build/libs/*-SNAPSHOT.jar 2>/dev/null | grep -v plain | head -1 || true)
+CDS_DIR="$ROOT/build/cds"
+NATIVE="$ROOT/build/native/nativeCompile/SpringStart"
+REPORT_DIR="$ROOT/build/reports/startup"
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+APP_ARGS=(--server.port=0)
+
+mkdir -p "$REPORT_DIR"
+
+# 한 번 실행해서 "<시작 시간(초)> <RSS(MB)>" 출력
+measure() {
+  local dir=$1; shift
+  local log
+  log=$(mktemp)
+  (cd "$dir" && exec "$@" "${APP_ARGS[@]}" >"$log" 2>&1) &
+  local pid=$!
+  local started=""
+  for _ in $(seq 1 1200); do
+    started=$(grep -oE 'process running for [0-9.]+' "$log" | grep -oE '[0-9.]+$' || true)
+    if [[ -n "$started" ]] || ! kill -0 "$pid" 2>/dev/null; then
+      break
+    fi
+    sleep 0.1
+  done
+  if [[ -z "$started" ]]; then
+    echo "시작 실패: $*" >&2
+    tail -20 "$log" >&2
+    kill "$pid" 2>/dev/null || true
+    rm -f "$log"
+    return 1
+  fi
+  local rss_kb
+  rss_kb=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  rm -f "$log"
+  echo "$started $((rss_kb / 1024))"
+}
+
+# 모드 이름, 작업 디렉터리, 실행 명령
+run_mode() {
+  local name=$1 dir=$2; shift 2
+  local times=() rss=()
+  for i in $(seq 1 "$RUNS"); do
+    read -r t r < <(measure "$dir" "$@")
+    times+=("$t"); rss+=("$r")
+    echo "  $name #$i: ${t}s, ${r}MB" >&2
+  done
+  local median_t median_r
+  median_t=$(printf '%s\n' "${times[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')
+  median_r=$(printf '%s\n' "${rss[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')
+  printf '%-12s %10s %10s\n' "$name" "${median_t}s" "${median_r}MB"
+}
+
+{
+  printf '%-12s %10s %10s   (median of %s runs)\n' mode startup rss "$RUNS"
+
+  if [[ -n "$JAR" ]]; then
+    run_mode jvm "$ROOT" "$JAVA" -jar "$JAR"
+  else
+    echo "jvm: build/libs에 jar가 없습니다 (gradle bootJar)" >&2
+  fi
+
+  if [[ -f "$CDS_DIR/application.jsa" ]]; then
+    CDS_JAR=$(basename "$(ls "$CDS_DIR"/*.jar | head -1)")
+    run_mode jvm-aot-cds "$CDS_DIR" "$JAVA" -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar "$CDS_JAR"
+  else
+    echo "jvm-aot-cds: build/cds/application.jsa가 없습니다 (gradle cdsArchive)" >&2
+  fi
+
+  if [[ -x "$NATIVE" ]]; then
+    run_mode native "$ROOT" "$NATIVE"
+  else
+    echo "native: $NATIVE 가 없습니다 (gradle nativeCompile)" >&2
+  fi
+} | tee "$REPORT_DIR/summary.txt"
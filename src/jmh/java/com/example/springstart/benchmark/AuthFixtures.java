@@ -0,0 +1,61 @@
+package com.example.springstart.benchmark;
+
+import com.example.springstart.domain.user.dto.CustomUserDetails;
+import com.example.springstart.domain.user.entity.User;
+import com.example.springstart.domain.user.entity.UserRoleType;
+import com.example.springstart.domain.user.jwt.BlacklistSnapshot;
+import com.example.springstart.domain.user.jwt.JwtTokenProvider;
+import com.example.springstart.domain.user.jwt.RedisTokenStore;
+import com.example.springstart.domain.user.metrics.AuthMetrics;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 벤치마크 공용 픽스처
+ * - Redis, DB 대신 메모리 스텁을 사용해 I/O 없이 CPU 비용만 측정한다.
+ */
+final class AuthFixtures {
+
+    static final String SECRET = "h1o2n3gg5i6l7d8o9n0gh1o2n3gg5i6l7d8o9n0g";
+    static final String USERNAME = "benchmark-user";
+
+    private AuthFixtures() {
+    }
+
+    static User user() {
+        User user = User.builder()
+                .username(USERNAME)
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoO5uA6Y1z1Z4f6Ykz8NQ4y1y5Z7a5hY7e")
+                .role(UserRoleType.USER)
+                .email("benchmark@example.com")
+                .build();
+        user.prePersist();
+        return user;
+    }
+
+    static JwtTokenProvider tokenProvider() {
+        User user = user();
+        AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+        StringRedisTemplate redisTemplate = new NotBlacklistedRedisTemplate();
+        return new JwtTokenProvider(
+                SECRET,
+                username -> CustomUserDetails.from(user),
+                new RedisTokenStore(redisTemplate, redisTemplate, authMetrics,
+                        CircuitBreaker.ofDefaults("redis"), new BlacklistSnapshot(1_000), "open", 60, false),
+                authMetrics);
+    }
+
+    /**
+     * 블랙리스트 조회만 응답하는 StringRedisTemplate 스텁 (항상 블랙리스트 아님)
+     */
+    static final class NotBlacklistedRedisTemplate extends StringRedisTemplate {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T execute(RedisCallback<T> action) {
+            return (T) Boolean.FALSE;
+        }
+    }
+}
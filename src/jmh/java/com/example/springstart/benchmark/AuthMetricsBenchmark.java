@@ -0,0 +1,45 @@
+package com.example.springstart.benchmark;
+
+import com.example.springstart.domain.user.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * AuthMetrics 기록 비용 - 요청당 추가 비용 1µs 미만 목표
+ * - baseline: 측정 대상 작업만 실행
+ * - timed: 같은 작업을 히스토그램 Timer로 감싸 실행
+ * - loginCounter: 로그인 결과 카운터 증가
+ */
+@State(Scope.Benchmark)
+public class AuthMetricsBenchmark {
+
+    private AuthMetrics authMetrics;
+    private int value;
+
+    @Setup
+    public void setUp() {
+        authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+    }
+
+    private int work() {
+        return value++;
+    }
+
+    @Benchmark
+    public int baseline() {
+        return work();
+    }
+
+    @Benchmark
+    public int timed() {
+        return authMetrics.timeTokenParse(this::work);
+    }
+
+    @Benchmark
+    public void loginCounter() {
+        authMetrics.recordLogin(AuthMetrics.LoginOutcome.SUCCESS);
+    }
+}
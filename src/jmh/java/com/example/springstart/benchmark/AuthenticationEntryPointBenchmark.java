@@ -0,0 +1,59 @@
+package com.example.springstart.benchmark;
+
+import com.example.springstart.domain.common.exception.dto.ApiErrorResponseDto;
+import com.example.springstart.domain.common.exception.handler.ErrorResponseWriter;
+import com.example.springstart.domain.user.handler.AuthenticationEntryPointImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+
+import java.io.IOException;
+
+/**
+ * 인증 없는 요청에 대한 401 응답 작성 비용
+ * - legacy: 요청마다 ObjectMapper 생성 + ApiErrorResponseDto 직렬화 (이전 AuthenticationEntryPointImpl 그대로)
+ * - preEncoded: ErrorResponseWriter가 미리 만든 UTF-8 바이트를 출력 스트림에 쓰기
+ * - 처리량(ops/s)은 1 / 평균 시간으로 환산한다.
+ */
+@State(Scope.Thread)
+public class AuthenticationEntryPointBenchmark {
+
+    private static final InsufficientAuthenticationException EXCEPTION = new InsufficientAuthenticationException("anonymous");
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+    private AuthenticationEntryPointImpl entryPoint;
+
+    @Setup
+    public void setUp() {
+        entryPoint = new AuthenticationEntryPointImpl(new ErrorResponseWriter(new ObjectMapper()));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse legacy() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        ObjectMapper mapper = new ObjectMapper();
+        ApiErrorResponseDto errorResponseDto = new ApiErrorResponseDto(
+                HttpStatus.UNAUTHORIZED.value(),
+                HttpStatus.UNAUTHORIZED.name(),
+                "인증이 필요합니다. 올바른 인증 정보를 제공해주세요.");
+        response.getWriter().write(mapper.writeValueAsString(errorResponseDto));
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse preEncoded() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        entryPoint.commence(request, response, EXCEPTION);
+        return response;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.springstart.benchmark;
+
+import com.example.springstart.domain.user.password.BreachedPasswordChecker;
+import com.example.springstart.domain.user.password.BreachedPasswordIndex;
+import com.example.springstart.domain.user.password.BreachedPasswordIndexBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+
+/**
+ * 유출 비밀번호 색인 조회 비용 (임의 SHA-1 size건으로 만든 색인, 기본 버킷 2바이트 + suffix 6바이트)
+ * - hit/miss: 해시를 이미 가진 상태에서 버킷 표 + 이진 탐색만 (조회할 해시를 매번 바꿔 캐시 효과를 줄인다)
+ * - check: 비밀번호 SHA-1 계산을 포함한 BreachedPasswordChecker 호출
+ * - 색인 크기는 -p size=... 로 바꾼다. 탐색 횟수는 log2(size / 65536) 정도로만 늘어난다.
+ */
+@State(Scope.Benchmark)
+public class BreachedPasswordIndexBenchmark {
+
+    private static final int PROBES = 1024;
+
+    @Param({"1000000"})
+    public int size;
+
+    private Path directory;
+    private BreachedPasswordIndex index;
+    private BreachedPasswordChecker checker;
+    private byte[][] present;
+    private byte[][] absent;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        byte[][] hashes = new byte[size + PROBES][20];
+        for (byte[] hash : hashes) {
+            random.nextBytes(hash);
+        }
+        // 뒤쪽 PROBES건은 색인에 넣지 않고 miss 조회에 쓴다
+        absent = Arrays.copyOfRange(hashes, size, size + PROBES);
+        byte[][] corpus = Arrays.copyOf(hashes, size);
+        present = new byte[PROBES][];
+        for (int i = 0; i < PROBES; i++) {
+            present[i] = corpus[random.nextInt(size)];
+        }
+        Arrays.sort(corpus, Arrays::compareUnsigned);
+
+        directory = Files.createTempDirectory("breached-index");
+        Path dump = directory.resolve("dump.txt");
+        Path indexFile = directory.resolve("breached.idx");
+        HexFormat hex = HexFormat.of().withUpperCase();
+        try (BufferedWriter writer = Files.newBufferedWriter(dump, StandardCharsets.US_ASCII)) {
+            for (byte[] hash : corpus) {
+                writer.write(hex.formatHex(hash));
+                writer.write(":1\n");
+            }
+        }
+        BreachedPasswordIndexBuilder.build(dump, indexFile, 2, 6);
+        Files.delete(dump);
+
+        index = BreachedPasswordIndex.open(indexFile);
+        checker = new BreachedPasswordChecker(indexFile.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        // 매핑은 GC 때 풀리므로 파일만 지운다 (Linux에서는 매핑 중에도 지울 수 있다)
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public boolean hit() {
+        return index.contains(present[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean miss() {
+        return index.contains(absent[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean check() {
+        return checker.isBreached("password" + (next++ & (PROBES - 1)));
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.springstart.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 10,000명 밴: 요청 단위 처리 vs 일괄 처리 (H2, MariaDB 모드)
+ * - single: 기존 /ban 경로. 사용자마다 SELECT 후 UPDATE, 트랜잭션 하나씩
+ * - jdbcBatch: 사용자별 UPDATE를 JDBC 배치로 묶고 chunk(500)마다 커밋 (hibernate.jdbc.batch_size 방식)
+ * - bulk: chunk(500)마다 `where username in (...)` UPDATE 한 번 (AdminUserServiceImpl 방식)
+ * 결과 단위는 10,000건 전체 처리 시간이다.
+ * in-memory H2에는 네트워크 왕복과 커밋 fsync가 없으므로, 실제 MariaDB에서는 single과의 차이가 훨씬 더 벌어진다.
+ */
+@State(Scope.Benchmark)
+public class BulkBanBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final int CHUNK = 500;
+
+    private Connection connection;
+    private List<String> usernames;
+    private String bulkSql;
+    private boolean ban;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:bulk-ban;MODE=MariaDB;NON_KEYWORDS=USER", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE User (id BIGINT AUTO_INCREMENT PRIMARY KEY, username VARCHAR(255) NOT NULL,"
+                    + " password VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL, role VARCHAR(16),"
+                    + " Banned BOOLEAN NOT NULL, passwordErrorCount INT, createdAt TIMESTAMP, updatedAt TIMESTAMP)");
+            statement.execute("CREATE UNIQUE INDEX uk_user_username ON User (username)");
+        }
+        usernames = new ArrayList<>(USERS);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO User (username, password, email, role, Banned, passwordErrorCount) VALUES (?, 'x', ?, 'USER', FALSE, 0)")) {
+            for (int i = 0; i < USERS; i++) {
+                String username = "user" + i;
+                usernames.add(username);
+                insert.setString(1, username);
+                insert.setString(2, username + "@example.com");
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        bulkSql = "UPDATE User SET Banned = ?, updatedAt = ? WHERE username IN (" + "?,".repeat(CHUNK - 1) + "?)";
+    }
+
+    @Setup(Level.Invocation)
+    public void toggle() {
+        // 매 호출마다 값이 실제로 바뀌도록 밴/해제를 번갈아 실행
+        ban = !ban;
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int single() throws SQLException {
+        int affected = 0;
+        try (PreparedStatement select = connection.prepareStatement(
+                     "SELECT id, username, password, email, role, Banned, passwordErrorCount, createdAt, updatedAt FROM User WHERE username = ?");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE User SET Banned = ?, updatedAt = ? WHERE id = ?")) {
+            for (String username : usernames) {
+                select.setString(1, username);
+                long id;
+                try (var rs = select.executeQuery()) {
+                    rs.next();
+                    id = rs.getLong(1);
+                }
+                update.setBoolean(1, ban);
+                update.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+                update.setLong(3, id);
+                affected += update.executeUpdate();
+            }
+        }
+        return affected;
+    }
+
+    @Benchmark
+    public int jdbcBatch() throws SQLException {
+        int affected = 0;
+        connection.setAutoCommit(false);
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE User SET Banned = ?, updatedAt = ? WHERE username = ?")) {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (int i = 0; i < usernames.size(); i++) {
+                update.setBoolean(1, ban);
+                update.setTimestamp(2, now);
+                update.setString(3, usernames.get(i));
+                update.addBatch();
+                if ((i + 1) % CHUNK == 0 || i == usernames.size() - 1) {
+                    for (int count : update.executeBatch()) {
+                        affected += count;
+                    }
+                    connection.commit();
+                }
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        return affected;
+    }
+
+    @Benchmark
+    public int bulk() throws SQLException {
+        int affected = 0;
+        connection.setAutoCommit(false);
+        try (PreparedStatement update = connection.prepareStatement(bulkSql)) {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (int from = 0; from < usernames.size(); from += CHUNK) {
+                update.setBoolean(1, ban);
+                update.setTimestamp(2, now);
+                for (int i = 0; i < CHUNK; i++) {
+                    update.setString(i + 3, usernames.get(from + i));
+                }
+                affected += update.executeUpdate();
+                connection.commit();
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        return affected;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.springstart.benchmark;
+
+import com.example.springstart.domain.user.jwt.JwtAuthenticationFilter;
+import com.example.springstart.domain.user.jwt.JwtTokenProvider;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JwtAuthenticationFilter 한 요청 처리 비용 (Redis, DB는 메모리 스텁)
+ * - authenticated: 유효한 액세스 토큰을 가진 보호 경로 요청
+ * - publicPath: shouldNotFilter로 건너뛰는 공개 경로 요청
+ */
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter filter;
+    private String bearerHeader;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = AuthFixtures.tokenProvider();
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, ObservationRegistry.NOOP);
+        bearerHeader = "Bearer " + jwtTokenProvider.createAccessToken(AuthFixtures.USERNAME, "USER");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticated() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/unlock");
+        request.addHeader("Authorization", bearerHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NOOP_CHAIN);
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse publicPath() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        request.addHeader("Authorization", bearerHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NOOP_CHAIN);
+        return response;
+    }
+}
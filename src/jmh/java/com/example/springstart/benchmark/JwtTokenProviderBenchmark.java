@@ -0,0 +1,48 @@
+package com.example.springstart.benchmark;
+
+import com.example.springstart.domain.user.jwt.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import java.util.Optional;
+
+/**
+ * JwtTokenProvider 토큰 생성/검증/파싱 비용
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+    private String bearerHeader;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = AuthFixtures.tokenProvider();
+        accessToken = jwtTokenProvider.createAccessToken(AuthFixtures.USERNAME, "USER");
+        bearerHeader = "Bearer " + accessToken;
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(AuthFixtures.USERNAME, "USER");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Optional<String> resolveToken() {
+        return jwtTokenProvider.resolveToken(bearerHeader);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+}
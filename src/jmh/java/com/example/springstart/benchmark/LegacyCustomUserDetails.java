@@ -0,0 +1,69 @@
+package com.example.springstart.benchmark;
+
+import com.example.springstart.domain.user.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 비교용: 엔티티 전체를 감싸던 이전 CustomUserDetails (권한 문자열을 매번 만들던 버전 그대로)
+ */
+@Data
+class LegacyCustomUserDetails implements UserDetails {
+
+    private User user;
+
+    /**
+     * User 엔티티를 기반으로 LegacyCustomUserDetails 생성
+     * @param user 사용자 엔티티
+     */
+    LegacyCustomUserDetails(User user) {
+        this.user = user;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(
+                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
+        );
+    }
+
+    @Override
+    public String getPassword() {
+        //return password;
+        return user.getPassword();
+    }
+
+    @Override
+    public String getUsername() {
+        //return username;
+        return user.getUsername();
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return user.getPasswordErrorCount() <= User.MAX_PASSWORD_ERROR_COUNT;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        //return !banned;
+        return !user.getBanned();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.example.springstart.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt(기본 strength 10) 해시/검증 비용
+ */
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        encoded = passwordEncoder.encode("password1234");
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode("password1234");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("password1234", encoded);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.springstart.benchmark;
+
+import com.example.springstart.domain.user.dto.CustomUserDetails;
+import com.example.springstart.domain.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 요청마다 만들어지는 인증 주체(CustomUserDetails) 생성 및 권한 조회 비용
+ * - legacy*: 엔티티 전체를 감싸던 이전 클래스, 그 외: 필요한 값만 가지는 불변 주체
+ * - 할당량 비교는 -prof gc 의 gc.alloc.rate.norm (B/op)으로 확인한다.
+ *   (엔티티 조회 자체의 할당은 UserDetailsServiceImpl의 프로젝션 조회로 함께 줄어들며 여기에는 포함되지 않는다)
+ */
+@State(Scope.Benchmark)
+public class PrincipalBenchmark {
+
+    private User user;
+    private CustomUserDetails principal;
+    private LegacyCustomUserDetails legacyPrincipal;
+
+    @Setup
+    public void setUp() {
+        user = AuthFixtures.user();
+        principal = CustomUserDetails.from(user);
+        legacyPrincipal = new LegacyCustomUserDetails(user);
+    }
+
+    @Benchmark
+    public CustomUserDetails construct() {
+        return CustomUserDetails.from(user);
+    }
+
+    @Benchmark
+    public LegacyCustomUserDetails legacyConstruct() {
+        return new LegacyCustomUserDetails(user);
+    }
+
+    @Benchmark
+    public void authoritiesAndFlags(Blackhole blackhole) {
+        blackhole.consume(principal.getAuthorities());
+        blackhole.consume(principal.isEnabled());
+        blackhole.consume(principal.isAccountNonLocked());
+    }
+
+    @Benchmark
+    public void legacyAuthoritiesAndFlags(Blackhole blackhole) {
+        blackhole.consume(legacyPrincipal.getAuthorities());
+        blackhole.consume(legacyPrincipal.isEnabled());
+        blackhole.consume(legacyPrincipal.isAccountNonLocked());
+    }
+
+    @Benchmark
+    public String toStringForLog() {
+        return principal.toString();
+    }
+
+    @Benchmark
+    public String legacyToStringForLog() {
+        return legacyPrincipal.toString();
+    }
+}
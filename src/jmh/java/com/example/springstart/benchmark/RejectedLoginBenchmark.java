@@ -0,0 +1,89 @@
+package com.example.springstart.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.example.springstart.domain.common.exception.AuthException;
+import com.example.springstart.domain.common.exception.handler.ErrorResponseWriter;
+import com.example.springstart.domain.common.exception.handler.GlobalExceptionHandler;
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+import java.io.OutputStream;
+import java.util.function.Supplier;
+
+/**
+ * 거절된 로그인 한 건의 예외 처리 비용 (생성 + throw/catch + 예외 핸들러 + 로그)
+ * - legacy: IllegalArgumentException -> handleException(Exception) -> 요청마다 ERROR 로그, 500
+ * - typed: 스택 없는 AuthException -> handleException(ApiException) -> 간격마다 한 줄 로그, 401
+ * - depth: throw 지점의 호출 스택 깊이 (실제 요청은 서블릿/시큐리티/MVC 프레임이 100개 이상)
+ * - 로그는 콘솔 대신 버리는 스트림에 실제 패턴으로 포맷해서 쓴다.
+ */
+@State(Scope.Benchmark)
+public class RejectedLoginBenchmark {
+
+    @Param({"20", "120"})
+    public int depth;
+
+    private GlobalExceptionHandler handler;
+
+    private static final Supplier<RuntimeException> LEGACY = () -> new IllegalArgumentException("패스워드가 일치하지 않습니다");
+    private static final Supplier<RuntimeException> TYPED = () -> new AuthException(ExceptionMessage.INVALID_CREDENTIALS);
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %-5level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.addAppender(appender);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+
+        handler = new GlobalExceptionHandler(new ErrorResponseWriter(new ObjectMapper()), 10_000);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> legacy() {
+        try {
+            throwAt(depth, LEGACY);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return handler.handleException((Exception) e);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<?> typed() {
+        try {
+            throwAt(depth, TYPED);
+            return null;
+        } catch (AuthException e) {
+            return handler.handleException(e);
+        }
+    }
+
+    private static void throwAt(int depth, Supplier<RuntimeException> exception) {
+        if (depth == 0) {
+            throw exception.get();
+        }
+        throwAt(depth - 1, exception);
+    }
+}
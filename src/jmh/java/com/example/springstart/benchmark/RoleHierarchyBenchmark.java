@@ -0,0 +1,35 @@
+package com.example.springstart.benchmark;
+
+import com.example.springstart.config.UserRoleHierarchy;
+import com.example.springstart.domain.user.entity.UserRoleType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
+import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * 인가 판단마다 호출되는 도달 가능 권한 계산 비용
+ * - 기존 RoleHierarchyImpl(매번 Set 생성) vs UserRoleType에 미리 펼쳐 둔 목록 조회
+ */
+@State(Scope.Benchmark)
+public class RoleHierarchyBenchmark {
+
+    private final RoleHierarchy impl = RoleHierarchyImpl.withDefaultRolePrefix()
+            .role(UserRoleType.ADMIN.name()).implies(UserRoleType.USER.name())
+            .build();
+    private final RoleHierarchy precomputed = new UserRoleHierarchy();
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> roleHierarchyImpl() {
+        return impl.getReachableGrantedAuthorities(UserRoleType.ADMIN.getAuthorities());
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> precomputed() {
+        return precomputed.getReachableGrantedAuthorities(UserRoleType.ADMIN.getAuthorities());
+    }
+}
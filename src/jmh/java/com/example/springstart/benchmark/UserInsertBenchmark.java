@@ -0,0 +1,108 @@
+package com.example.springstart.benchmark;
+
+import com.example.springstart.domain.common.id.SnowflakeIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+
+/**
+ * 사용자 1,000명 INSERT: IDENTITY vs Snowflake (H2, MariaDB 모드)
+ * - identity: Hibernate가 IDENTITY 키에서 하는 것처럼 한 건마다 INSERT를 바로 실행하고 생성된 키를 읽는다.
+ * - snowflake: 키를 미리 만들어 JDBC 배치(hibernate.jdbc.batch_size=100)로 보낸다.
+ * - 둘 다 1,000건마다 커밋. 결과 단위는 1,000건 전체 처리 시간이다.
+ * - snowflakeNextId: ID 생성 자체의 비용
+ */
+@State(Scope.Benchmark)
+public class UserInsertBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final int BATCH = 100;
+
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+
+    private Connection connection;
+    private long sequence;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:user-insert;MODE=MariaDB;NON_KEYWORDS=USER", "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IdentityUser (id BIGINT AUTO_INCREMENT PRIMARY KEY, username VARCHAR(255) NOT NULL,"
+                    + " password VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL, role VARCHAR(16),"
+                    + " Banned BOOLEAN NOT NULL, passwordErrorCount INT, createdAt TIMESTAMP, updatedAt TIMESTAMP)");
+            statement.execute("CREATE TABLE SnowflakeUser (id BIGINT NOT NULL PRIMARY KEY, username VARCHAR(255) NOT NULL,"
+                    + " password VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL, role VARCHAR(16),"
+                    + " Banned BOOLEAN NOT NULL, passwordErrorCount INT, createdAt TIMESTAMP, updatedAt TIMESTAMP)");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long identity() throws SQLException {
+        long lastId = 0L;
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO IdentityUser (username, password, email, role, Banned, passwordErrorCount, createdAt, updatedAt)"
+                        + " VALUES (?, 'hash', ?, 'USER', FALSE, 0, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < USERS; i++) {
+                String username = "user" + sequence++;
+                insert.setString(1, username);
+                insert.setString(2, username + "@example.com");
+                insert.setTimestamp(3, now);
+                insert.setTimestamp(4, now);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long snowflake() throws SQLException {
+        long lastId = 0L;
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO SnowflakeUser (id, username, password, email, role, Banned, passwordErrorCount, createdAt, updatedAt)"
+                        + " VALUES (?, ?, 'hash', ?, 'USER', FALSE, 0, ?, ?)")) {
+            for (int i = 0; i < USERS; i++) {
+                String username = "user" + sequence++;
+                lastId = generator.nextId();
+                insert.setLong(1, lastId);
+                insert.setString(2, username);
+                insert.setString(3, username + "@example.com");
+                insert.setTimestamp(4, now);
+                insert.setTimestamp(5, now);
+                insert.addBatch();
+                if ((i + 1) % BATCH == 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long snowflakeNextId() {
+        return generator.nextId();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.springstart.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 서버(Tomcat 워커) 스레드의 할당량과 GC 횟수/시간을 측정 구간 전후로 비교
+ * - 부하 생성기와 서버가 같은 JVM에 있으므로 스레드 이름으로 서버 쪽 할당만 골라낸다.
+ */
+final class AllocationProbe {
+
+    private static final String SERVER_THREAD_PREFIX = "http-nio-";
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Map<Long, Long> startAllocated;
+    private long startGcCount;
+    private long startGcMillis;
+
+    void start() {
+        startAllocated = serverThreadAllocations();
+        startGcCount = gcCount();
+        startGcMillis = gcMillis();
+    }
+
+    Result stop() {
+        long allocated = 0;
+        for (Map.Entry<Long, Long> entry : serverThreadAllocations().entrySet()) {
+            allocated += entry.getValue() - startAllocated.getOrDefault(entry.getKey(), 0L);
+        }
+        return new Result(allocated, gcCount() - startGcCount, gcMillis() - startGcMillis);
+    }
+
+    private Map<Long, Long> serverThreadAllocations() {
+        Map<Long, Long> allocations = new HashMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith(SERVER_THREAD_PREFIX)) {
+                long bytes = threads.getThreadAllocatedBytes(thread.getId());
+                if (bytes >= 0) {
+                    allocations.put(thread.getId(), bytes);
+                }
+            }
+        }
+        return allocations;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+    static final class Result {
+        final long serverAllocatedBytes;
+        final long gcCount;
+        final long gcMillis;
+
+        Result(long serverAllocatedBytes, long gcCount, long gcMillis) {
+            this.serverAllocatedBytes = serverAllocatedBytes;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+        }
+    }
+}
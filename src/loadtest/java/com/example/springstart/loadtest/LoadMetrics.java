@@ -0,0 +1,55 @@
+package com.example.springstart.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 호출 종류별 지연(HdrHistogram, ns)과 오류 수 집계
+ * - Recorder는 여러 워커 스레드가 락 없이 동시에 기록할 수 있다.
+ */
+final class LoadMetrics {
+
+    private final Map<Operation, Recorder> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    LoadMetrics() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(Operation operation, long elapsedNanos, boolean success) {
+        latencies.get(operation).recordValue(elapsedNanos);
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    /**
+     * 워밍업 구간 기록을 버린다.
+     */
+    void reset() {
+        for (Operation operation : Operation.values()) {
+            latencies.get(operation).reset();
+            errors.get(operation).reset();
+        }
+    }
+
+    /**
+     * 지금까지의 기록을 꺼내고 다음 구간을 위해 비운다.
+     */
+    Map<Operation, Histogram> drainHistograms() {
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        latencies.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+        return histograms;
+    }
+
+    long errors(Operation operation) {
+        return errors.get(operation).sum();
+    }
+}
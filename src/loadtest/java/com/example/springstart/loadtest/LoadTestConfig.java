@@ -0,0 +1,57 @@
+package com.example.springstart.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.*)
+ */
+final class LoadTestConfig {
+
+    final int users;
+    final int threads;
+    final Duration duration;
+    final Duration warmup;
+    final Map<Operation, Integer> mix;
+    final Path reportDir;
+
+    private LoadTestConfig(int users, int threads, Duration duration, Duration warmup,
+                           Map<Operation, Integer> mix, Path reportDir) {
+        this.users = users;
+        this.threads = threads;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.mix = mix;
+        this.reportDir = reportDir;
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.users", 1_000),
+                Integer.getInteger("loadtest.threads", 16),
+                Duration.ofSeconds(Long.getLong("loadtest.duration", 30L)),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup", 10L)),
+                parseMix(System.getProperty("loadtest.mix", "login:20,refresh:20,authenticated:50,join:5,logout:5")),
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest")));
+    }
+
+    /**
+     * "login:20,refresh:20,..." 형식의 가중치 문자열 파싱
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("잘못된 mix 항목: " + entry);
+            }
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix 가중치 합이 0 입니다: " + mix);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.springstart.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 리포트 작성
+ * - summary.txt: 사람이 읽는 표
+ * - summary.json: CI에서 비교할 수 있는 수치
+ * - <op>.hgrm: 호출 종류별 지연 분포 (HdrHistogram 형식, ms 단위)
+ */
+final class LoadTestReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private LoadTestReport() {
+    }
+
+    static String write(LoadTestConfig config, Duration measured, Map<Operation, Histogram> histograms,
+                        LoadMetrics metrics, AllocationProbe.Result allocation) throws IOException {
+        Files.createDirectories(config.reportDir);
+
+        Histogram total = new Histogram(3);
+        Map<String, Object> operations = new LinkedHashMap<>();
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "users=%d threads=%d duration=%ds warmup=%ds mix=%s%n%n",
+                config.users, config.threads, measured.toSeconds(), config.warmup.toSeconds(), config.mix));
+        text.append(String.format(Locale.ROOT, "%-14s %10s %8s %10s %10s %10s %10s %10s%n",
+                "operation", "count", "errors", "ops/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+
+        double seconds = measured.toNanos() / 1e9;
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(histogram);
+            String name = entry.getKey().name().toLowerCase(Locale.ROOT);
+            long errors = metrics.errors(entry.getKey());
+            operations.put(name, summary(histogram, errors, seconds));
+            text.append(line(name, histogram, errors, seconds));
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(config.reportDir.resolve(name + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+
+        long totalErrors = histograms.keySet().stream().mapToLong(metrics::errors).sum();
+        text.append(line("total", total, totalErrors, seconds));
+
+        long requests = Math.max(1, total.getTotalCount());
+        text.append(String.format(Locale.ROOT, "%nserver allocation: %.1f KB/request (%d MB total), GC: %d collections, %d ms%n",
+                allocation.serverAllocatedBytes / 1024d / requests,
+                allocation.serverAllocatedBytes / (1024 * 1024),
+                allocation.gcCount, allocation.gcMillis));
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("users", config.users);
+        json.put("threads", config.threads);
+        json.put("durationSeconds", seconds);
+        json.put("mix", config.mix);
+        json.put("total", summary(total, totalErrors, seconds));
+        json.put("operations", operations);
+        json.put("serverAllocatedBytesPerRequest", allocation.serverAllocatedBytes / requests);
+        json.put("gcCount", allocation.gcCount);
+        json.put("gcMillis", allocation.gcMillis);
+
+        Files.writeString(config.reportDir.resolve("summary.txt"), text.toString());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(config.reportDir.resolve("summary.json").toFile(), json);
+        return text.toString();
+    }
+
+    private static String line(String name, Histogram histogram, long errors, double seconds) {
+        return String.format(Locale.ROOT, "%-14s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                name, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                millis(histogram, 50), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+
+    private static Map<String, Object> summary(Histogram histogram, long errors, double seconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("errors", errors);
+        summary.put("throughput", histogram.getTotalCount() / seconds);
+        summary.put("p50Millis", millis(histogram, 50));
+        summary.put("p99Millis", millis(histogram, 99));
+        summary.put("p999Millis", millis(histogram, 99.9));
+        summary.put("maxMillis", histogram.getMaxValue() / NANOS_PER_MILLI);
+        return summary;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
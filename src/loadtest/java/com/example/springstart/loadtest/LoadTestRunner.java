@@ -0,0 +1,87 @@
+package com.example.springstart.loadtest;
+
+import com.example.springstart.SpringStartApplication;
+import com.github.fppt.jedismock.RedisServer;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 부하 테스트 진입점
+ * 1. in-process Redis(jedis-mock)를 띄우고 loadtest 프로필(H2 MariaDB 모드)로 애플리케이션을 실행
+ * 2. 사용자 N명 적재
+ * 3. 워밍업 후 측정 구간 동안 스레드 수만큼의 가상 사용자가 mix 비율로 API 호출
+ * 4. 처리량, p50/p99/p999 지연, 서버 할당량 리포트 작성
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        RedisServer redis = RedisServer.newRedisServer().start();
+        // 기본 프로퍼티(properties())는 application.properties보다 우선순위가 낮으므로 커맨드라인 인자로 넘긴다
+        List<String> appArgs = new ArrayList<>(List.of(args));
+        appArgs.add("--spring.data.redis.port=" + redis.getBindPort());
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringStartApplication.class)
+                .profiles("loadtest")
+                .run(appArgs.toArray(String[]::new))) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI baseUri = URI.create("http://127.0.0.1:" + port);
+
+            UserSeeder.seed(context.getBean(JdbcTemplate.class), config.users);
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            LoadMetrics metrics = new LoadMetrics();
+
+            runPhase(client, baseUri, metrics, config, config.warmup);
+            metrics.reset();
+
+            AllocationProbe allocationProbe = new AllocationProbe();
+            allocationProbe.start();
+            long start = System.nanoTime();
+            runPhase(client, baseUri, metrics, config, config.duration);
+            Duration measured = Duration.ofNanos(System.nanoTime() - start);
+            AllocationProbe.Result allocation = allocationProbe.stop();
+
+            Map<Operation, Histogram> histograms = metrics.drainHistograms();
+            System.out.println(LoadTestReport.write(config, measured, histograms, metrics, allocation));
+            System.out.println("report: " + config.reportDir.toAbsolutePath());
+        } finally {
+            redis.stop();
+        }
+    }
+
+    private static void runPhase(HttpClient client, URI baseUri, LoadMetrics metrics,
+                                 LoadTestConfig config, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Thread> workers = new ArrayList<>(config.threads);
+        for (int i = 0; i < config.threads; i++) {
+            String username = UserSeeder.username(i % config.users);
+            Thread worker = new Thread(
+                    new VirtualUser(client, baseUri, metrics, config.mix, username, deadline),
+                    "load-user-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.springstart.loadtest;
+
+/**
+ * 워크로드를 구성하는 API 호출 종류
+ */
+enum Operation {
+    JOIN,
+    LOGIN,
+    REFRESH,
+    LOGOUT,
+    AUTHENTICATED
+}
@@ -0,0 +1,46 @@
+package com.example.springstart.loadtest;
+
+import com.example.springstart.domain.common.id.SnowflakeIds;
+import com.example.springstart.domain.user.entity.UserRoleType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트용 사용자 N명을 JDBC 배치로 미리 적재
+ * - 모든 사용자가 같은 비밀번호를 쓰므로 BCrypt 해시는 한 번만 계산한다.
+ * - authenticated 작업이 ADMIN 전용인 /unlock을 호출하므로 ADMIN으로 적재한다.
+ */
+final class UserSeeder {
+
+    static final String PASSWORD = "password1234";
+    private static final int BATCH_SIZE = 1_000;
+
+    private UserSeeder() {
+    }
+
+    static String username(int index) {
+        return "load" + index;
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate, int users) {
+        String encoded = new BCryptPasswordEncoder().encode(PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < users; i++) {
+            batch.add(new Object[]{SnowflakeIds.next(), username(i), encoded, UserRoleType.ADMIN.name(), username(i) + "@load.test", now, now});
+            if (batch.size() == BATCH_SIZE || i == users - 1) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO User (id, username, password, role, email, Banned, passwordErrorCount, createdAt, updatedAt) "
+                                + "VALUES (?, ?, ?, ?, ?, false, 0, ?, ?)",
+                        batch);
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.springstart.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 명의 사용자처럼 로그인 상태를 유지하며 가중치에 따라 API를 호출하는 워커
+ * - 토큰이 없으면(처음 또는 로그아웃 직후) 항상 로그인부터 한다.
+ */
+final class VirtualUser implements Runnable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final AtomicLong JOIN_SEQUENCE = new AtomicLong();
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final LoadMetrics metrics;
+    private final Operation[] weightedOperations;
+    private final String username;
+    private final long deadlineNanos;
+
+    private String accessToken;
+    private String refreshToken;
+
+    VirtualUser(HttpClient client, URI baseUri, LoadMetrics metrics, Map<Operation, Integer> mix,
+                String username, long deadlineNanos) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.metrics = metrics;
+        this.weightedOperations = expand(mix);
+        this.username = username;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    private static Operation[] expand(Map<Operation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Operation[] operations = new Operation[total];
+        int index = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                operations[index++] = entry.getKey();
+            }
+        }
+        return operations;
+    }
+
+    @Override
+    public void run() {
+        while (System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted()) {
+            Operation operation = accessToken == null
+                    ? Operation.LOGIN
+                    : weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                success = execute(operation);
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            metrics.record(operation, System.nanoTime() - start, success);
+        }
+    }
+
+    private boolean execute(Operation operation) throws IOException, InterruptedException {
+        switch (operation) {
+            case JOIN: {
+                String newUsername = "j" + JOIN_SEQUENCE.incrementAndGet();
+                return post("/join", null, "{\"username\":\"" + newUsername + "\",\"password\":\"" + UserSeeder.PASSWORD
+                        + "\",\"confirmPassword\":\"" + UserSeeder.PASSWORD + "\",\"email\":\"" + newUsername + "@load.test\"}")
+                        .statusCode() == 200;
+            }
+            case LOGIN: {
+                HttpResponse<String> response = post("/login", null,
+                        "{\"username\":\"" + username + "\",\"password\":\"" + UserSeeder.PASSWORD + "\"}");
+                if (response.statusCode() != 200) {
+                    return false;
+                }
+                JsonNode tokens = MAPPER.readTree(response.body());
+                accessToken = tokens.path("accessToken").asText(null);
+                refreshToken = tokens.path("refreshToken").asText(null);
+                return accessToken != null;
+            }
+            case REFRESH: {
+                HttpResponse<String> response = post("/refresh", refreshToken, null);
+                if (response.statusCode() != 200) {
+                    return false;
+                }
+                accessToken = MAPPER.readTree(response.body()).path("accessToken").asText(accessToken);
+                return true;
+            }
+            case LOGOUT: {
+                HttpResponse<String> response = post("/logout", accessToken, null);
+                accessToken = null;
+                refreshToken = null;
+                return response.statusCode() == 204;
+            }
+            case AUTHENTICATED:
+                return post("/unlock", accessToken, "{\"username\":\"" + username + "\"}").statusCode() == 200;
+            default:
+                throw new IllegalStateException("Unknown operation: " + operation);
+        }
+    }
+
+    private HttpResponse<String> post(String path, String bearerToken, String json)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .POST(json == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json))
+                .header("Content-Type", "application/json");
+        if (bearerToken != null) {
+            builder.header("Authorization", "Bearer " + bearerToken);
+        }
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.springstart.config;
+
+import com.example.springstart.domain.common.id.SnowflakeIds;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Snowflake ID 노드 설정
+ * - 같은 DB에 쓰는 인스턴스마다 서로 다른 node-id(0 ~ 1023)를 지정해야 ID가 겹치지 않는다.
+ */
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    public IdGeneratorConfig(@Value("${springboot.id.node-id:0}") int nodeId) {
+        SnowflakeIds.configure(nodeId);
+        log.info("Snowflake node id: {}", nodeId);
+    }
+}
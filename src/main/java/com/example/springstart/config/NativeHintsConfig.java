@@ -0,0 +1,90 @@
+package com.example.springstart.config;
+
+import com.example.springstart.domain.audit.dto.AuditLogResponseDto;
+import com.example.springstart.domain.common.exception.dto.ApiErrorResponseDto;
+import com.example.springstart.domain.common.id.SnowflakeIdentifierGenerator;
+import com.example.springstart.domain.user.dto.*;
+import com.example.springstart.domain.user.entity.UserRoleType;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * AOT 처리 / GraalVM native image용 힌트
+ * - 스프링이 자동으로 찾지 못하는 리플렉션, 직렬화, 리소스 사용을 빌드 시점에 등록한다.
+ * - JVM 실행(AOT 포함)에는 영향이 없고, native image에서만 의미가 있다.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.AppRuntimeHints.class)
+@RegisterReflectionForBinding({
+        // 컨트롤러 밖에서 직접 직렬화하는 응답 (ErrorResponseWriter, 예외 핸들러)
+        ApiErrorResponseDto.class,
+        // 요청/응답 DTO (컨트롤러 시그니처로도 등록되지만, ResponseEntity<?> 등으로 감싼 경우를 위해 명시)
+        JoinRequestDto.class, LoginRequestDto.class, TokenResponseDto.class,
+        BanRequestDto.class, BanResponseDto.class, LockRequestDto.class, LockResponseDto.class,
+        UnlockRequestDto.class, UnlockResponseDto.class,
+        PasswordUpdateRequestDto.class, PasswordUpdateResponseDto.class,
+        UserUpdateRequestDto.class, UserUpdateResponseDto.class,
+        UserGetRequestDto.class, UserGetResponseDto.class,
+        BulkBanRequestDto.class, BulkUnlockRequestDto.class, BulkDeleteRequestDto.class, BulkResponseDto.class,
+        AuditLogResponseDto.class
+})
+public class NativeHintsConfig {
+
+    /**
+     * jjwt-api가 이름으로 찾아 리플렉션으로 생성하는 jjwt-impl 구현체
+     * (Jwts.builder(), Jwts.parser(), Jwts.SIG 등이 Classes.newInstance / 정적 필드 조회로 로딩한다)
+     */
+    static final String[] JJWT_IMPL_TYPES = {
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            // ServiceLoader로 찾는 JSON 직렬화 구현 (jjwt-jackson)
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    };
+
+    static class AppRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String type : JJWT_IMPL_TYPES) {
+                hints.reflection().registerTypeIfPresent(classLoader, type,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+            // @SnowflakeId(@IdGeneratorType)로 지정된 생성기는 Hibernate가 생성자를 리플렉션으로 호출한다
+            hints.reflection().registerType(SnowflakeIdentifierGenerator.class,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+            // SecurityContext 직렬화(세션 복제 등) 대상인 인증 주체
+            hints.serialization().registerType(CustomUserDetails.class);
+            hints.serialization().registerType(UserRoleType.class);
+
+            // Flyway 등 클래스패스 스캔으로 읽는 마이그레이션 스크립트
+            hints.resources().registerPattern("db/migration/*.sql");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.springstart.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+/**
+ * 트레이싱 관련 설정
+ * - 서비스 메서드 span은 @Observed(management.observations.annotations.enabled)로,
+ *   JDBC span은 datasource-micrometer로, Redis span은 RedisConfig의 Lettuce 트레이싱으로 생성된다.
+ */
+@Configuration
+public class ObservationConfig {
+
+    /**
+     * 스프링이 만드는 비동기 실행기(@Async, 스케줄러)에 현재 trace 컨텍스트를 전파
+     * - 부트가 자동 구성하는 ThreadPoolTaskExecutor/Scheduler에 TaskDecorator로 적용된다.
+     */
+    @Bean
+    public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.springstart.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.io.Closeable;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ * - 실제 커넥션은 첫 SQL 실행 시점까지 미룬다. 그 사이 트랜잭션 매니저가 readOnly 여부를 표시한다.
+ * - @Transactional(readOnly = true) 트랜잭션은 replica 풀로, 그 외(쓰기, 트랜잭션 밖)는 primary 풀로 보낸다.
+ * - 스프링 컨텍스트 종료 시 두 풀을 함께 닫는다.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, HikariDataSource replica) {
+        super(primary);
+        setReadOnlyDataSource(replica);
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+}
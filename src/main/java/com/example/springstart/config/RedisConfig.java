@@ -1,36 +1,261 @@
 package com.example.springstart.config;
 
-import lombok.RequiredArgsConstructor;
+import com.example.springstart.domain.user.jwt.BlacklistSnapshot;
+import com.example.springstart.domain.user.jwt.RedisTokenStore;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.lettuce.core.tracing.MicrometerTracing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.lang.Nullable;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Redis 연결 구성
+ * - springboot.redis.topology로 standalone / sentinel / cluster를 선택한다.
+ *   standalone은 spring.data.redis.host/port, sentinel과 cluster는 springboot.redis.nodes(host:port 목록)를 사용한다.
+ * - 모든 모드에서 commons-pool2 커넥션 풀을 사용한다. 단순 명령은 공유 커넥션 하나로 다중화되고,
+ *   파이프라인/트랜잭션처럼 커넥션을 독점하는 작업만 풀에서 커넥션을 빌린다.
+ * - 쓰기와 일반 읽기는 마스터(stringRedisTemplate), 지연에 관대한 조회(블랙리스트, 리프레시 토큰)는
+ *   복제본 우선(replicaPreferredRedisTemplate)으로 보낸다. 복제본이 없으면 마스터에서 읽는다.
+ * - Redis가 멈춰도 요청 스레드가 오래 묶이지 않도록 명령/연결 타임아웃을 두고, 연결이 끊긴 동안의 명령은
+ *   재연결까지 쌓아 두지 않고 바로 실패시킨다. 토큰 저장소 호출은 redisCircuitBreaker를 거친다. (RedisTokenStore)
+ */
 @Configuration
-@RequiredArgsConstructor
 public class RedisConfig {
 
-    @Value("${spring.data.redis.host}")
-    private String host;
+    /**
+     * Redis 배포 형태
+     */
+    public enum Topology {
+        STANDALONE,
+        SENTINEL,
+        CLUSTER;
+
+        static Topology from(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final Topology topology;
+    private final String host;
+    private final int port;
+    private final String password;
+    private final List<RedisNode> nodes;
+    private final String sentinelMaster;
+    private final GenericObjectPoolConfig<?> poolConfig;
+    private final Duration clusterRefreshPeriod;
+    private final Duration commandTimeout;
+    private final Duration connectTimeout;
+
+    public RedisConfig(@Value("${springboot.redis.topology:standalone}") String topology,
+                       @Value("${spring.data.redis.host}") String host,
+                       @Value("${spring.data.redis.port}") int port,
+                       @Value("${spring.data.redis.password}") String password,
+                       @Value("${springboot.redis.nodes:}") String nodes,
+                       @Value("${springboot.redis.sentinel.master:mymaster}") String sentinelMaster,
+                       @Value("${springboot.redis.pool.max-total:16}") int poolMaxTotal,
+                       @Value("${springboot.redis.pool.min-idle:2}") int poolMinIdle,
+                       @Value("${springboot.redis.pool.max-wait-ms:200}") long poolMaxWaitMs,
+                       @Value("${springboot.redis.cluster.refresh-period-ms:30000}") long clusterRefreshPeriodMs,
+                       @Value("${springboot.redis.command-timeout-ms:100}") long commandTimeoutMs,
+                       @Value("${springboot.redis.connect-timeout-ms:500}") long connectTimeoutMs) {
+        this.topology = Topology.from(topology);
+        this.host = host;
+        this.port = port;
+        this.password = password;
+        this.nodes = Arrays.stream(nodes.split(","))
+                .map(String::trim)
+                .filter(node -> !node.isEmpty())
+                .map(RedisNode::fromString)
+                .toList();
+        this.sentinelMaster = sentinelMaster;
+        this.clusterRefreshPeriod = Duration.ofMillis(clusterRefreshPeriodMs);
+        this.commandTimeout = Duration.ofMillis(commandTimeoutMs);
+        this.connectTimeout = Duration.ofMillis(connectTimeoutMs);
+
+        GenericObjectPoolConfig<?> pool = new GenericObjectPoolConfig<>();
+        pool.setMaxTotal(poolMaxTotal);
+        pool.setMaxIdle(poolMaxTotal);
+        pool.setMinIdle(poolMinIdle);
+        pool.setMaxWait(Duration.ofMillis(poolMaxWaitMs));
+        this.poolConfig = pool;
+
+        if (this.topology != Topology.STANDALONE && this.nodes.isEmpty()) {
+            throw new IllegalStateException("springboot.redis.nodes is required for " + this.topology + " topology");
+        }
+    }
+
+    /**
+     * Lettuce 클라이언트 리소스 - 모든 Redis 명령을 Observation(span)으로 기록
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources(ObservationRegistry observationRegistry) {
+        return DefaultClientResources.builder()
+                .tracing(new MicrometerTracing(observationRegistry, "redis"))
+                .build();
+    }
+
+    /**
+     * 기본 연결 - 모든 명령을 마스터로 보낸다
+     */
+    @Bean
+    @Primary
+    public RedisConnectionFactory redisConnectionFactory(ClientResources lettuceClientResources) {
+        return connectionFactory(lettuceClientResources, null);
+    }
+
+    /**
+     * 복제본 우선 연결 - 복제본이 있는 sentinel/cluster에서만 만든다
+     */
+    @Bean
+    @ConditionalOnExpression("!'${springboot.redis.topology:standalone}'.trim().equalsIgnoreCase('standalone')")
+    public RedisConnectionFactory replicaPreferredRedisConnectionFactory(ClientResources lettuceClientResources) {
+        return connectionFactory(lettuceClientResources, ReadFrom.REPLICA_PREFERRED);
+    }
 
-    @Value("${spring.data.redis.port}")
-    private int port;
+    /**
+     * 토폴로지에 맞는 풀링 연결 팩토리를 만드는 메서드
+     *
+     * @param clientResources Lettuce 클라이언트 리소스
+     * @param readFrom        읽기 노드 선택 (null이면 마스터)
+     * @return 연결 팩토리
+     */
+    LettuceConnectionFactory connectionFactory(ClientResources clientResources, @Nullable ReadFrom readFrom) {
+        LettucePoolingClientConfiguration.LettucePoolingClientConfigurationBuilder clientConf =
+                LettucePoolingClientConfiguration.builder()
+                        .poolConfig(poolConfig)
+                        .clientResources(clientResources)
+                        .clientOptions(clientOptions())
+                        // 연결 초기화(HELLO/AUTH) 제한 시간. 명령 제한 시간은 TimeoutOptions(commandTimeout)로 따로 둔다
+                        .commandTimeout(connectTimeout);
+        if (readFrom != null) {
+            clientConf.readFrom(readFrom);
+        }
+        return new LettuceConnectionFactory(serverConfiguration(), clientConf.build());
+    }
 
-    @Value("${spring.data.redis.password}")
-    private String password;
+    private RedisConfiguration serverConfiguration() {
+        RedisPassword redisPassword = RedisPassword.of(password);
+        switch (topology) {
+            case SENTINEL -> {
+                RedisSentinelConfiguration sentinelConf = new RedisSentinelConfiguration();
+                sentinelConf.master(sentinelMaster);
+                sentinelConf.setSentinels(nodes);
+                sentinelConf.setPassword(redisPassword);
+                return sentinelConf;
+            }
+            case CLUSTER -> {
+                RedisClusterConfiguration clusterConf = new RedisClusterConfiguration();
+                clusterConf.setClusterNodes(nodes);
+                clusterConf.setPassword(redisPassword);
+                return clusterConf;
+            }
+            default -> {
+                // standalone 구성에 호스트, 포트, 비밀번호를 설정
+                RedisStandaloneConfiguration standaloneConf = new RedisStandaloneConfiguration(host, port);
+                standaloneConf.setPassword(redisPassword);
+                return standaloneConf;
+            }
+        }
+    }
 
+    private ClientOptions clientOptions() {
+        SocketOptions socketOptions = SocketOptions.builder().connectTimeout(connectTimeout).build();
+        TimeoutOptions timeoutOptions = TimeoutOptions.enabled(commandTimeout);
+        if (topology != Topology.CLUSTER) {
+            return ClientOptions.builder()
+                    .socketOptions(socketOptions)
+                    .timeoutOptions(timeoutOptions)
+                    .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                    .build();
+        }
+        // 슬롯 이동(MOVED/ASK)이나 노드 장애 시 즉시, 그 외에는 주기적으로 클러스터 토폴로지를 갱신
+        return ClusterClientOptions.builder()
+                .socketOptions(socketOptions)
+                .timeoutOptions(timeoutOptions)
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+                        .enablePeriodicRefresh(clusterRefreshPeriod)
+                        .enableAllAdaptiveRefreshTriggers()
+                        .build())
+                .build();
+    }
+
+    /**
+     * 토큰 저장소(Redis) 호출용 서킷 브레이커
+     * - 최근 호출 중 실패(타임아웃 포함) 비율이 임계치를 넘으면 열리고, 열린 동안은 Redis를 호출하지 않는다.
+     * - 대기 시간이 지나면 반열림 상태에서 몇 건만 시험 호출해 닫을지 정한다.
+     * - 상태/호출 결과는 resilience4j.circuitbreaker.* 메트릭으로 내보낸다.
+     */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        // standalone 구성에 호스트, 포트, 비밀번호를 설정
-        RedisStandaloneConfiguration redisConf = new RedisStandaloneConfiguration(host, port);
-        redisConf.setPassword(password);
+    public CircuitBreaker redisCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${springboot.redis.breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${springboot.redis.breaker.sliding-window-size:50}") int slidingWindowSize,
+            @Value("${springboot.redis.breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${springboot.redis.breaker.open-duration-ms:5000}") long openDurationMs,
+            @Value("${springboot.redis.breaker.half-open-calls:5}") int halfOpenCalls) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .waitDurationInOpenState(Duration.ofMillis(openDurationMs))
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker("redis");
+    }
 
-        // LettuceConnectionFactory에 구성 정보 전달
-        return new LettuceConnectionFactory(redisConf);
+    /**
+     * 블랙리스트 채널 구독 - 다른 인스턴스의 로그아웃을 로컬 스냅샷에 반영
+     */
+    @Bean
+    public RedisMessageListenerContainer blacklistListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            BlacklistSnapshot blacklistSnapshot,
+            @Value("${springboot.redis.blacklist-snapshot.resubscribe-interval-ms:5000}") long resubscribeIntervalMs) {
+        RedisMessageListenerContainer container = new RetryingMessageListenerContainer(resubscribeIntervalMs);
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(blacklistSnapshot, new ChannelTopic(RedisTokenStore.BLACKLIST_CHANNEL));
+        return container;
     }
 
     @Bean
@@ -45,4 +270,17 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    @Bean
+    @Primary
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    @Bean
+    public StringRedisTemplate replicaPreferredRedisTemplate(
+            RedisConnectionFactory redisConnectionFactory,
+            @Qualifier("replicaPreferredRedisConnectionFactory") ObjectProvider<RedisConnectionFactory> replicaPreferred) {
+        return new StringRedisTemplate(replicaPreferred.getIfAvailable(() -> redisConnectionFactory));
+    }
 }
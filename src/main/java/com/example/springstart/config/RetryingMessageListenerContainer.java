@@ -0,0 +1,62 @@
+package com.example.springstart.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작할 때 Redis에 연결할 수 없어도 애플리케이션 시작을 막지 않는 구독 컨테이너
+ * - RedisMessageListenerContainer는 첫 구독이 실패하면 start()에서 예외를 던지고 다시 시도하지 않는다.
+ *   구독(블랙리스트 스냅샷 복제)은 부가 기능이므로, 실패하면 경고만 남기고 retryIntervalMs마다 다시 구독한다.
+ * - 한 번 구독된 뒤 연결이 끊기는 경우는 컨테이너 자체 복구(recovery interval)가 다시 구독한다.
+ */
+@Slf4j
+class RetryingMessageListenerContainer extends RedisMessageListenerContainer {
+
+    private final long retryIntervalMs;
+    private final ScheduledExecutorService retryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "redis-subscribe-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean stopped;
+
+    RetryingMessageListenerContainer(long retryIntervalMs) {
+        this.retryIntervalMs = retryIntervalMs;
+        setRecoveryInterval(retryIntervalMs);
+    }
+
+    @Override
+    public void start() {
+        stopped = false;
+        try {
+            super.start();
+        } catch (RuntimeException e) {
+            log.warn("Redis 구독 실패, {} ms 후 다시 시도합니다: {}", retryIntervalMs, e.toString());
+            // 실패한 시작 상태(running=true, listening=false)를 정리해야 다시 start()할 수 있다
+            super.stop();
+            retryExecutor.schedule(() -> {
+                if (!stopped) {
+                    start();
+                }
+            }, retryIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        super.stop();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        stopped = true;
+        retryExecutor.shutdownNow();
+        super.destroy();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.springstart.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (OutboxRelay)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
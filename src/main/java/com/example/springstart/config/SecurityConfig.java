@@ -1,16 +1,22 @@
 package com.example.springstart.config;
 
 import com.example.springstart.domain.user.entity.UserRoleType;
+import com.example.springstart.domain.common.exception.handler.ErrorResponseWriter;
+import com.example.springstart.domain.user.handler.AccessDeniedHandlerImpl;
 import com.example.springstart.domain.user.handler.AuthenticationEntryPointImpl;
 import com.example.springstart.domain.user.jwt.JwtAuthenticationFilter;
 import com.example.springstart.domain.user.jwt.JwtTokenProvider;
+import com.example.springstart.domain.user.jwt.PublicPaths;
+import com.example.springstart.domain.user.metrics.AuthMetrics;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
-import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -20,7 +26,6 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.web.access.AccessDeniedHandlerImpl;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -33,16 +38,40 @@ import java.util.Collections;
 public class SecurityConfig {
     private final JwtTokenProvider jwtTokenProvider;
 
-    //시큐리티 role 수직적 게층 시큐리티에 적용
+    /**
+     * 시큐리티 role 수직적 계층 (ADMIN -> USER)
+     * - 계층은 UserRoleType에서 시작 시 한 번 펼쳐 두고, 인가 판단 때는 조회만 한다.
+     */
     @Bean
-    public RoleHierarchy roleHierarchy() {
-        return RoleHierarchyImpl.withRolePrefix("Role_")
-                .role(UserRoleType.ADMIN.toString()).implies(UserRoleType.USER.toString())
-                .build();
+    public static RoleHierarchy roleHierarchy() {
+        return new UserRoleHierarchy();
     }
 
+    /**
+     * Swagger / API 문서, Actuator health 전용 필터 체인
+     * - JWT 필터를 등록하지 않으므로 문서/모니터링 요청은 인증 관련 비용이 전혀 없다.
+     */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtTokenProvider jwtTokenProvider) throws Exception{
+    @Order(1)
+    public SecurityFilterChain docsSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(PublicPaths.INFRA)
+                .csrf(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .securityContext(AbstractHttpConfigurer::disable)
+                .sessionManagement(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtTokenProvider jwtTokenProvider,
+                                                   ObservationRegistry observationRegistry,
+                                                   ErrorResponseWriter errorResponseWriter) throws Exception{
 
 
         http
@@ -54,26 +83,29 @@ public class SecurityConfig {
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
+                // 공개 경로는 JwtAuthenticationFilter.shouldNotFilter에서 바로 건너뛴다
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(jwtTokenProvider),
+                        new JwtAuthenticationFilter(jwtTokenProvider, observationRegistry),
                         UsernamePasswordAuthenticationFilter.class
                 )
                 .exceptionHandling(exceptionHandling ->
                         exceptionHandling
-                                .authenticationEntryPoint(new AuthenticationEntryPointImpl())
-                                .accessDeniedHandler(new AccessDeniedHandlerImpl()))
+                                .authenticationEntryPoint(new AuthenticationEntryPointImpl(errorResponseWriter))
+                                .accessDeniedHandler(new AccessDeniedHandlerImpl(errorResponseWriter)))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/**",
-                                "/join", "/login",
-                                "/logout", "/ban",
-                                "/refresh",
-                                "/v3/api-docs/**",
-                                "/swagger-ui/**",
-                                "/api-docs/**",
-                                "/swagger-ui.html",
-                                "/delete",
-                                "/updatePassword",
-                                "/swagger-resources/**").permitAll()
+                        // 비동기 완료/에러 디스패치는 처음 요청(REQUEST)에서 이미 인가를 통과한 뒤에만 생긴다.
+                        // JWT 필터는 다시 디스패치될 때 실행되지 않아(OncePerRequestFilter) 익명으로 보이므로 통과시킨다.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                        .requestMatchers(PublicPaths.AUTH).permitAll()
+                        // 단건 밴/잠금 해제/삭제도 /admin/users/** 와 같은 ADMIN 권한으로 제한한다
+                        .requestMatchers(
+                                "/ban",
+                                "/unlock",
+                                "/delete").hasRole(UserRoleType.ADMIN.name())
+                        .requestMatchers("/updatePassword").authenticated()
+                        .requestMatchers("/admin/**").hasRole(UserRoleType.ADMIN.name())
+                        // 메트릭 스크레이프는 ADMIN 토큰으로만 (공개 필터 체인에서 제외)
+                        .requestMatchers("/actuator/prometheus").hasRole(UserRoleType.ADMIN.name())
                         .anyRequest().authenticated()
                 );
         return http.build();
@@ -81,8 +113,22 @@ public class SecurityConfig {
 
 
 
+    /**
+     * BCrypt 해시/검증 시간을 측정하도록 감싼 PasswordEncoder
+     */
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(AuthMetrics authMetrics){
+        PasswordEncoder delegate = new BCryptPasswordEncoder();
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return authMetrics.timePasswordEncode(() -> delegate.encode(rawPassword));
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return authMetrics.timePasswordMatch(() -> delegate.matches(rawPassword, encodedPassword));
+            }
+        };
     }
 }
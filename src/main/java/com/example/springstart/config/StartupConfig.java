@@ -0,0 +1,46 @@
+package com.example.springstart.config;
+
+import com.example.springstart.SpringStartApplication;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.security.web.SecurityFilterChain;
+
+import javax.sql.DataSource;
+
+/**
+ * 지연 초기화(spring.main.lazy-initialization=true, prod 프로필) 대상 조정
+ * - 요청을 처리하는 빈(이 애플리케이션 패키지의 빈과 DB/Redis/시큐리티 인프라)은 시작 시 만든다.
+ *   첫 요청이 커넥션 풀, EntityManagerFactory, 필터 체인 생성 비용을 떠안지 않도록 하기 위함이다.
+ * - 그 외 자동 구성 빈(사용하지 않는 Actuator 엔드포인트, 부가 컨버터 등)은 처음 쓰일 때 만든다.
+ * - @Scheduled(OutboxRelay)나 SmartLifecycle(AuditEventBus) 빈도 이 패키지에 있으므로 시작 시 등록된다.
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final String APPLICATION_PACKAGE = SpringStartApplication.class.getPackageName() + ".";
+
+    private static final Class<?>[] EAGER_INFRASTRUCTURE = {
+            DataSource.class,
+            EntityManagerFactory.class,
+            RedisConnectionFactory.class,
+            SecurityFilterChain.class
+    };
+
+    @Bean
+    static LazyInitializationExcludeFilter servingPathBeans() {
+        return (beanName, beanDefinition, beanType) -> {
+            if (beanType.getName().startsWith(APPLICATION_PACKAGE)) {
+                return true;
+            }
+            for (Class<?> type : EAGER_INFRASTRUCTURE) {
+                if (type.isAssignableFrom(beanType)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+}
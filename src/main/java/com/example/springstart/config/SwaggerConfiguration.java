@@ -8,8 +8,11 @@ import io.swagger.v3.oas.models.security.SecurityScheme;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
+// 운영(prod)에서는 API 문서를 만들지 않는다 (springdoc.api-docs.enabled=false와 함께)
 @Configuration
+@Profile("!prod")
 public class SwaggerConfiguration {
 
     @Bean
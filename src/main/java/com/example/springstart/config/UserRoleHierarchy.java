@@ -0,0 +1,68 @@
+package com.example.springstart.config;
+
+import com.example.springstart.domain.user.entity.UserRoleType;
+import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * UserRoleType에 미리 계산해 둔 도달 가능 권한을 그대로 돌려주는 RoleHierarchy
+ * - RoleHierarchyImpl은 인가 판단마다 새 Set을 만들어 계층을 펼치지만, 여기서는 권한 문자열 -> 불변 리스트 조회 한 번으로 끝난다.
+ * - 사용자는 권한을 하나만 가지므로 대부분 단일 권한 경로에서 할당 없이 반환된다.
+ * - UserRoleType에 없는 권한은 계층 없이 그대로 유지한다.
+ */
+public final class UserRoleHierarchy implements RoleHierarchy {
+
+    private final Map<String, List<GrantedAuthority>> reachable;
+
+    public UserRoleHierarchy() {
+        Map<String, List<GrantedAuthority>> map = new HashMap<>();
+        for (UserRoleType role : UserRoleType.values()) {
+            map.put(role.getAuthority(), role.getReachableAuthorities());
+        }
+        this.reachable = Map.copyOf(map);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getReachableGrantedAuthorities(Collection<? extends GrantedAuthority> authorities) {
+        if (authorities == null || authorities.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (authorities.size() == 1) {
+            GrantedAuthority authority = authorities.iterator().next();
+            List<GrantedAuthority> found = lookup(authority);
+            return found != null ? found : authorities;
+        }
+
+        List<GrantedAuthority> result = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (GrantedAuthority authority : authorities) {
+            List<GrantedAuthority> found = lookup(authority);
+            if (found == null) {
+                if (seen.add(authority.getAuthority())) {
+                    result.add(authority);
+                }
+                continue;
+            }
+            for (GrantedAuthority implied : found) {
+                if (seen.add(implied.getAuthority())) {
+                    result.add(implied);
+                }
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private List<GrantedAuthority> lookup(GrantedAuthority authority) {
+        String name = authority.getAuthority();
+        return name == null ? null : reachable.get(name);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.springstart.config;
+
+import com.example.springstart.domain.user.dto.TokenResponseDto;
+import com.example.springstart.domain.user.entity.UserRoleType;
+import com.example.springstart.domain.user.jwt.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 트래픽을 받기 전 인증 경로 워밍업
+ * - ApplicationRunner는 ApplicationReadyEvent 전에 실행되므로, 끝날 때까지 readiness 프로브가 ACCEPTING_TRAFFIC으로 바뀌지 않는다.
+ * - 토큰 서명/파싱, JSON 직렬화, BCrypt를 반복 호출해 첫 요청들이 인터프리터/C1 코드에서 실행되지 않도록 JIT 컴파일을 유도한다.
+ * - Redis/DB는 호출하지 않는다. (refresh 토큰 저장, 블랙리스트 조회 제외)
+ * - 워밍업 호출도 auth.token.*, auth.password.* 메트릭에 기록된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "springboot.warmup.enabled", havingValue = "true")
+public class WarmUpRunner implements ApplicationRunner {
+
+    static final String USERNAME = "warm-up";
+    private static final String PASSWORD = "warm-up-password";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final int tokenIterations;
+    private final int passwordIterations;
+
+    public WarmUpRunner(JwtTokenProvider jwtTokenProvider,
+                        PasswordEncoder passwordEncoder,
+                        ObjectMapper objectMapper,
+                        @Value("${springboot.warmup.token-iterations:5000}") int tokenIterations,
+                        @Value("${springboot.warmup.password-iterations:10}") int passwordIterations) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.tokenIterations = tokenIterations;
+        this.passwordIterations = passwordIterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long start = System.nanoTime();
+
+        int valid = 0;
+        for (int i = 0; i < tokenIterations; i++) {
+            String token = jwtTokenProvider.createAccessToken(USERNAME, UserRoleType.USER.name());
+            if (jwtTokenProvider.validateToken(token)
+                    && jwtTokenProvider.hasRole(token)
+                    && USERNAME.equals(jwtTokenProvider.getUserName(token))) {
+                valid++;
+            }
+            objectMapper.writeValueAsBytes(new TokenResponseDto(token, token));
+        }
+
+        // BCrypt는 한 번에 수십 ms라 적은 횟수로도 내부 루프가 컴파일된다
+        String hash = passwordEncoder.encode(PASSWORD);
+        for (int i = 0; i < passwordIterations; i++) {
+            passwordEncoder.matches(PASSWORD, hash);
+        }
+
+        log.info("워밍업 완료: 토큰 {}회(유효 {}), BCrypt {}회, {} ms",
+                tokenIterations, valid, passwordIterations, (System.nanoTime() - start) / 1_000_000);
+    }
+}
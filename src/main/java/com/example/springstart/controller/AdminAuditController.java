@@ -0,0 +1,44 @@
+package com.example.springstart.controller;
+
+import com.example.springstart.domain.audit.dto.AuditLogResponseDto;
+import com.example.springstart.domain.audit.repository.AuditLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 전용 감사 로그 조회 API (ADMIN 권한 필요)
+ * - 사용자와 기간(from ~ to, ISO-8601)으로 최신순 조회
+ */
+@RestController
+@RequestMapping("/admin/audit")
+@RequiredArgsConstructor
+public class AdminAuditController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final AuditLogRepository auditLogRepository;
+
+    @GetMapping
+    public ResponseEntity<Page<AuditLogResponseDto>> search(
+            @RequestParam String username,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+
+        Page<AuditLogResponseDto> result = auditLogRepository
+                .findByUsernameAndCreatedAtBetweenOrderByIdDesc(username, from, to,
+                        PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE)))
+                .map(AuditLogResponseDto::new);
+        return ResponseEntity.ok(result);
+    }
+}
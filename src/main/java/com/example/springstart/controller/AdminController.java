@@ -0,0 +1,49 @@
+package com.example.springstart.controller;
+
+import com.example.springstart.domain.user.dto.BulkBanRequestDto;
+import com.example.springstart.domain.user.dto.BulkDeleteRequestDto;
+import com.example.springstart.domain.user.dto.BulkResponseDto;
+import com.example.springstart.domain.user.dto.BulkUnlockRequestDto;
+import com.example.springstart.domain.user.service.AdminUserService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 전용 일괄 처리 API (ADMIN 권한 필요, SecurityConfig 참고)
+ * - 밴 / 잠금 해제 / 삭제를 사용자 목록 단위로 처리한다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin/users")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final AdminUserService adminUserService;
+
+    @PostMapping("/ban")
+    public ResponseEntity<BulkResponseDto> ban(@Valid @RequestBody BulkBanRequestDto dto) {
+        BulkResponseDto response = adminUserService.banUsers(dto);
+        log.info("일괄 banned = {}: 요청 {}건, 변경 {}건", dto.getBan(), response.getRequested(), response.getAffected());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/unlock")
+    public ResponseEntity<BulkResponseDto> unlock(@Valid @RequestBody BulkUnlockRequestDto dto) {
+        BulkResponseDto response = adminUserService.unlockUsers(dto);
+        log.info("일괄 unlock: 요청 {}건, 변경 {}건", response.getRequested(), response.getAffected());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/delete")
+    public ResponseEntity<BulkResponseDto> delete(@Valid @RequestBody BulkDeleteRequestDto dto) {
+        BulkResponseDto response = adminUserService.deleteUsers(dto);
+        log.info("일괄 delete: 요청 {}건, 변경 {}건", response.getRequested(), response.getAffected());
+        return ResponseEntity.ok(response);
+    }
+}
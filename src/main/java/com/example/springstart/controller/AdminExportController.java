@@ -0,0 +1,48 @@
+package com.example.springstart.controller;
+
+import com.example.springstart.domain.user.export.UserExportFormat;
+import com.example.springstart.domain.user.export.UserExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+/**
+ * 관리자 전용 사용자 내보내기 API (ADMIN 권한 필요)
+ * - 조회 결과를 모아서 응답하지 않고, 읽는 대로 응답 스트림에 쓴다.
+ * - 내보내기는 오래 걸리므로 전역 비동기 시간 제한(spring.mvc.async.request-timeout) 대신
+ *   이 요청에만 springboot.export.timeout-ms를 적용한다. (WebAsyncTask)
+ */
+@RestController
+@RequestMapping("/admin/users/export")
+public class AdminExportController {
+
+    private final UserExportService userExportService;
+    private final long timeoutMillis;
+
+    public AdminExportController(UserExportService userExportService,
+                                 @Value("${springboot.export.timeout-ms:1800000}") long timeoutMillis) {
+        this.userExportService = userExportService;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @GetMapping
+    public WebAsyncTask<Void> export(@RequestParam(defaultValue = "NDJSON") UserExportFormat format,
+                                     HttpServletResponse response) {
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("users." + format.getExtension())
+                .build()
+                .toString());
+        return new WebAsyncTask<>(timeoutMillis, () -> {
+            userExportService.export(response.getOutputStream(), format);
+            response.flushBuffer();
+            return null;
+        });
+    }
+}
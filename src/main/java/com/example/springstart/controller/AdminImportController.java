@@ -0,0 +1,45 @@
+package com.example.springstart.controller;
+
+import com.example.springstart.domain.user.importer.UserImportFormat;
+import com.example.springstart.domain.user.importer.UserImportResult;
+import com.example.springstart.domain.user.importer.UserImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 관리자 전용 사용자 가져오기 API (ADMIN 권한 필요)
+ * - 요청 본문(CSV 또는 NDJSON)을 스트림으로 읽으므로 파일 크기만큼 메모리를 쓰지 않는다.
+ * - 중단된 경우 응답(또는 진행 상황)의 lastLine을 skip으로 넘겨 같은 파일을 다시 보내면 이어서 진행한다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin/users/import")
+@RequiredArgsConstructor
+public class AdminImportController {
+
+    private final UserImportService userImportService;
+
+    @PostMapping
+    public ResponseEntity<UserImportResult> importUsers(InputStream body,
+                                                        @RequestParam(defaultValue = "CSV") UserImportFormat format,
+                                                        @RequestParam(defaultValue = "0") long skip) throws IOException {
+        UserImportResult result = userImportService.importUsers(body, format, skip, null);
+        log.info("사용자 가져오기: {}", result);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/progress")
+    public ResponseEntity<UserImportResult> progress() {
+        UserImportResult progress = userImportService.progress();
+        return progress == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(progress);
+    }
+}
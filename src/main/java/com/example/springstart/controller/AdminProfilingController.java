@@ -0,0 +1,64 @@
+package com.example.springstart.controller;
+
+import com.example.springstart.domain.common.profiling.JfrRecordingService;
+import com.example.springstart.domain.common.profiling.JfrRecordingStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 관리자 전용 JFR 녹화 API (ADMIN 권한 필요)
+ * - POST /start?durationSeconds=60 으로 시작하고, POST /stop 으로 멈추면서 .jfr 파일을 받는다.
+ * - 녹화 시간이 지나면 자동으로 멈추며, 파일은 /stop 을 호출할 때까지 보관한다.
+ */
+@RestController
+@RequestMapping("/admin/profiling/jfr")
+@RequiredArgsConstructor
+public class AdminProfilingController {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    @PostMapping("/start")
+    public ResponseEntity<JfrRecordingStatus> start(@RequestParam(defaultValue = "60") long durationSeconds) {
+        return ResponseEntity.ok(jfrRecordingService.start(Duration.ofSeconds(durationSeconds)));
+    }
+
+    @GetMapping
+    public ResponseEntity<JfrRecordingStatus> status() {
+        JfrRecordingStatus status = jfrRecordingService.status();
+        return status == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(status);
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<StreamingResponseBody> stop() throws IOException {
+        Path file = jfrRecordingService.stop();
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Files.size(file))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(file.getFileName().toString())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
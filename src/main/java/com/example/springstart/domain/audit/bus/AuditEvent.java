@@ -0,0 +1,9 @@
+package com.example.springstart.domain.audit.bus;
+
+import com.example.springstart.domain.audit.entity.AuditEventType;
+
+/**
+ * 링 버퍼에 넣는 감사 이벤트 (발생 시각은 발행 시점의 epoch 밀리초)
+ */
+public record AuditEvent(AuditEventType type, String username, String actor, String detail, long timestamp) {
+}
@@ -0,0 +1,161 @@
+package com.example.springstart.domain.audit.bus;
+
+import com.example.springstart.domain.audit.entity.AuditEventType;
+import com.example.springstart.domain.audit.repository.AuditLogWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 감사 이벤트 버스
+ * - 요청 스레드는 링 버퍼에 넣기만 하고 바로 돌아간다. (DB I/O 없음, 락 없음)
+ * - 전용 스레드 하나가 버퍼를 batch-size 단위로 꺼내 AuditLog 테이블에 배치 INSERT 한다.
+ * - 버퍼가 가득 차면 요청을 늦추지 않고 이벤트를 버리며, 버린 수는 audit.events{result=dropped}로 남는다.
+ *   DB 쓰기에 실패한 batch는 audit.events{result=failed}로 센다.
+ * - 트랜잭션 안에서 발행하면 커밋된 뒤에 버퍼에 넣는다. 롤백되면 이벤트도 버려지므로
+ *   일어나지 않은 변경(밴/잠금 해제/삭제 등)의 감사 로그가 남지 않는다.
+ * - 종료 시에는 남은 이벤트를 모두 쓰고 멈춘다.
+ */
+@Slf4j
+@Component
+public class AuditEventBus implements SmartLifecycle {
+
+    private final AuditLogWriter auditLogWriter;
+    private final MpscRingBuffer<AuditEvent> buffer;
+    private final int batchSize;
+    private final long idleParkNanos;
+
+    private final Counter published;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread consumer;
+
+    public AuditEventBus(AuditLogWriter auditLogWriter,
+                         MeterRegistry registry,
+                         @Value("${springboot.audit.buffer-size:65536}") int bufferSize,
+                         @Value("${springboot.audit.batch-size:500}") int batchSize,
+                         @Value("${springboot.audit.flush-interval-ms:50}") long flushIntervalMs) {
+        this.auditLogWriter = auditLogWriter;
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.batchSize = batchSize;
+        this.idleParkNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+
+        this.published = Counter.builder("audit.events").tag("result", "published").register(registry);
+        this.dropped = Counter.builder("audit.events").tag("result", "dropped").register(registry);
+        this.written = Counter.builder("audit.events").tag("result", "written").register(registry);
+        this.failed = Counter.builder("audit.events").tag("result", "failed").register(registry);
+        Gauge.builder("audit.buffer.size", buffer, MpscRingBuffer::size).register(registry);
+    }
+
+    /**
+     * 감사 이벤트 발행 (actor는 현재 인증된 사용자, 본인 요청이면 null)
+     * - 진행 중인 트랜잭션이 있으면 커밋 후에 버퍼에 넣는다.
+     *
+     * @param type     이벤트 종류
+     * @param username 대상 사용자
+     * @param detail   부가 정보 (없으면 null)
+     */
+    public void publish(AuditEventType type, String username, String detail) {
+        String actor = currentActor();
+        AuditEvent event = new AuditEvent(type, username, actor != null && actor.equals(username) ? null : actor, detail,
+                System.currentTimeMillis());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offer(event);
+            }
+        });
+    }
+
+    private void offer(AuditEvent event) {
+        if (buffer.offer(event)) {
+            published.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+
+    // ========================= 🔹 소비자 스레드 =========================
+
+    private void consume() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || buffer.size() > 0) {
+            if (buffer.drain(batch::add, batchSize) == 0) {
+                LockSupport.parkNanos(idleParkNanos);
+                continue;
+            }
+            flush(batch);
+        }
+    }
+
+    private void flush(List<AuditEvent> batch) {
+        try {
+            auditLogWriter.insertAll(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            log.warn("감사 로그 {}건 저장 실패", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        consumer = new Thread(this::consume, "audit-writer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(DEFAULT_PHASE - 2048)보다 먼저 시작하고 나중에 멈춘다. (phase가 낮을수록 먼저 시작, 나중에 멈춤)
+     * - 요청을 받기 전에 소비자 스레드가 돌고 있고, 웹 서버가 처리 중인 요청을 끝내고 멈춘 뒤에 남은 이벤트를 쓴다.
+     * - DataSource는 Lifecycle이 아니라 모든 Lifecycle이 멈춘 뒤 빈 소멸 단계에서 닫히므로, 마지막 flush 때도 쓸 수 있다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
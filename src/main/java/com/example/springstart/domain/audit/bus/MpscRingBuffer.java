@@ -0,0 +1,109 @@
+package com.example.springstart.domain.audit.bus;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * 크기가 고정된 lock-free 링 버퍼 (여러 생산자, 소비자 하나)
+ * - 칸마다 순번을 두고, 생산자는 tail을 CAS로 한 칸 차지한 뒤 값을 쓰고 순번을 올려 공개한다.
+ * - 가득 차면 기다리지 않고 offer가 false를 돌려준다. (호출자가 버린 수를 센다)
+ * - poll/drain은 소비자 스레드 하나에서만 호출해야 한다.
+ */
+public final class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity 버퍼 크기 (2의 거듭제곱으로 올림)
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity는 2 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity > (1 << 30) ? 1 << 30 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.elements = new Object[this.capacity];
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 값을 넣는 메서드 (여러 스레드에서 호출 가능)
+     *
+     * @return 버퍼가 가득 차서 넣지 못했으면 false
+     */
+    public boolean offer(E element) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) position & mask;
+            long sequence = sequences.get(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (sequence < position) {
+                // 한 바퀴 전 값을 소비자가 아직 꺼내지 않음 = 가득 참
+                return false;
+            }
+            // sequence > position: 다른 생산자가 먼저 차지함, 다시 시도
+        }
+        elements[index] = element;
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    /**
+     * 값을 하나 꺼내는 메서드 (소비자 스레드 전용)
+     *
+     * @return 비어 있으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long position = head.get();
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = (E) elements[index];
+        elements[index] = null;
+        sequences.lazySet(index, position + capacity);
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    /**
+     * 최대 limit개를 꺼내 consumer에 넘기는 메서드 (소비자 스레드 전용)
+     *
+     * @return 꺼낸 개수
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        int drained = 0;
+        E element;
+        while (drained < limit && (element = poll()) != null) {
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 대략적인 현재 크기 (모니터링용)
+     */
+    public int size() {
+        return (int) Math.max(0L, Math.min(capacity, tail.get() - head.get()));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
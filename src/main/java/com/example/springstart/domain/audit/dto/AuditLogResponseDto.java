@@ -0,0 +1,30 @@
+package com.example.springstart.domain.audit.dto;
+
+import com.example.springstart.domain.audit.entity.AuditEventType;
+import com.example.springstart.domain.audit.entity.AuditLog;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class AuditLogResponseDto {
+    // Snowflake id는 2^53을 넘으므로 JavaScript 숫자로 읽으면 뒷자리가 바뀐다 -> 문자열로 내보낸다
+    @JsonSerialize(using = ToStringSerializer.class)
+    Long id;
+    AuditEventType type;
+    String username;
+    String actor;
+    String detail;
+    LocalDateTime createdAt;
+
+    public AuditLogResponseDto(AuditLog auditLog) {
+        this.id = auditLog.getId();
+        this.type = auditLog.getType();
+        this.username = auditLog.getUsername();
+        this.actor = auditLog.getActor();
+        this.detail = auditLog.getDetail();
+        this.createdAt = auditLog.getCreatedAt();
+    }
+}
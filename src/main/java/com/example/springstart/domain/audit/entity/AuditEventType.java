@@ -0,0 +1,12 @@
+package com.example.springstart.domain.audit.entity;
+
+public enum AuditEventType {
+    LOGIN_SUCCESS,
+    LOGIN_FAILURE,
+    LOGOUT,
+    BAN,
+    UNBAN,
+    UNLOCK,
+    PASSWORD_CHANGE,
+    DELETE
+}
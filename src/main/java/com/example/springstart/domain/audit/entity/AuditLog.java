@@ -0,0 +1,43 @@
+package com.example.springstart.domain.audit.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인증/계정 보안 감사 로그 (추가만 하고 수정/삭제하지 않는다)
+ * - 쓰기는 AuditEventBus → AuditLogWriter(JDBC 배치)로만 하고, 이 엔티티는 조회에만 쓴다.
+ * - id는 Snowflake 값이라 시간순이다.
+ */
+@Entity
+@Getter
+@Immutable
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_audit_log_username_created_at", columnList = "username, createdAt"))
+public class AuditLog {
+
+    @Id
+    Long id;
+
+    // MariaDB 네이티브 ENUM 대신 VARCHAR (마이그레이션 스크립트와 일치, 이벤트 종류 추가 시 큰 테이블 ALTER 불필요)
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 32)
+    AuditEventType type;
+
+    @Column(nullable = false)
+    String username;
+
+    // 작업을 한 사용자 (관리자 작업 등), 본인 요청이면 null
+    String actor;
+
+    String detail;
+
+    @Column(nullable = false)
+    LocalDateTime createdAt;
+}
@@ -0,0 +1,17 @@
+package com.example.springstart.domain.audit.repository;
+
+import com.example.springstart.domain.audit.entity.AuditLog;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
+
+    // (username, createdAt) 인덱스 사용
+    @Transactional(readOnly = true)
+    Page<AuditLog> findByUsernameAndCreatedAtBetweenOrderByIdDesc(String username, LocalDateTime from, LocalDateTime to,
+                                                                  Pageable pageable);
+}
@@ -0,0 +1,46 @@
+package com.example.springstart.domain.audit.repository;
+
+import com.example.springstart.domain.audit.bus.AuditEvent;
+import com.example.springstart.domain.common.id.SnowflakeIds;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 감사 이벤트를 AuditLog 테이블에 JDBC 배치 INSERT 한다. (INSERT만 한다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO AuditLog (id, type, username, actor, detail, createdAt) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<AuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AuditEvent event = events.get(i);
+                ps.setLong(1, SnowflakeIds.next());
+                ps.setString(2, event.type().name());
+                ps.setString(3, event.username());
+                ps.setString(4, event.actor());
+                ps.setString(5, event.detail());
+                ps.setTimestamp(6, new Timestamp(event.timestamp()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        });
+    }
+}
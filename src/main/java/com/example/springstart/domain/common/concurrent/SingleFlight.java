@@ -0,0 +1,105 @@
+package com.example.springstart.domain.common.concurrent;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 호출을 한 번의 실행으로 합치는 도구 (single flight)
+ * - 키마다 먼저 들어온 스레드(리더)만 loader를 실행하고, 실행 중에 들어온 스레드는 리더의 결과나 예외를 그대로 받는다.
+ * - 결과를 보관하지 않는다. 리더가 끝나면 키를 지우므로 그 뒤의 호출은 다시 loader를 실행한다. (캐시가 아님)
+ * - 기다리는 시간은 maxWait로 제한한다. 시간이 지나면 기다리기를 그만두고 직접 loader를 실행하므로,
+ *   최악의 경우에도 합치기 전과 같은 동작이다.
+ * - 결과 객체를 여러 스레드가 함께 쓰므로 V는 불변이어야 한다.
+ */
+public final class SingleFlight<K, V> {
+
+    /**
+     * 호출 하나가 값을 얻은 방법
+     */
+    public enum Outcome {
+        // 직접 loader를 실행했다
+        LEADER,
+        // 실행 중인 다른 호출의 결과를 받았다
+        SHARED,
+        // maxWait 동안 기다렸지만 끝나지 않아 직접 loader를 실행했다
+        TIMED_OUT
+    }
+
+    private final Map<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+    private final Consumer<Outcome> listener;
+
+    public SingleFlight(Duration maxWait, Consumer<Outcome> listener) {
+        this.maxWaitNanos = maxWait.toNanos();
+        this.listener = listener;
+    }
+
+    /**
+     * key에 대해 실행 중인 호출이 있으면 그 결과를 기다리고, 없으면 loader를 실행하는 메서드
+     *
+     * @param key    합칠 단위 (equals/hashCode 기준)
+     * @param loader 값을 읽는 함수
+     * @return loader 결과
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight == null) {
+            listener.accept(Outcome.LEADER);
+            return lead(key, call, loader);
+        }
+        try {
+            V value = inFlight.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            listener.accept(Outcome.SHARED);
+            return value;
+        } catch (ExecutionException e) {
+            listener.accept(Outcome.SHARED);
+            throw rethrow(e.getCause());
+        } catch (TimeoutException e) {
+            listener.accept(Outcome.TIMED_OUT);
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            listener.accept(Outcome.TIMED_OUT);
+            return loader.get();
+        }
+    }
+
+    /**
+     * 지금 실행 중인 키 개수
+     */
+    public int inFlight() {
+        return calls.size();
+    }
+
+    private V lead(K key, CompletableFuture<V> call, Supplier<V> loader) {
+        V value;
+        try {
+            value = loader.get();
+        } catch (Throwable e) {
+            calls.remove(key, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+        calls.remove(key, call);
+        call.complete(value);
+        return value;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        throw new IllegalStateException(cause);
+    }
+}
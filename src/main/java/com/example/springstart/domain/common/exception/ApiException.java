@@ -0,0 +1,21 @@
+package com.example.springstart.domain.common.exception;
+
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import lombok.Getter;
+
+/**
+ * 예상 가능한 요청 실패(잘못된 입력, 권한 없음, 중복 등)를 나타내는 예외
+ * - HTTP 상태와 메시지는 ExceptionMessage가 정하고, GlobalExceptionHandler가 그대로 응답으로 바꾼다.
+ * - 원인 추적이 필요 없는 정상 흐름의 실패이므로 스택 트레이스를 채우지 않는다.
+ *   (throw 지점의 호출 스택 깊이와 관계없이 생성 비용이 일정하다)
+ */
+@Getter
+public class ApiException extends RuntimeException {
+
+    private final ExceptionMessage exceptionMessage;
+
+    public ApiException(ExceptionMessage exceptionMessage) {
+        super(exceptionMessage.getMessage(), null, false, false);
+        this.exceptionMessage = exceptionMessage;
+    }
+}
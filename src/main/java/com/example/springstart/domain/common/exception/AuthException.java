@@ -0,0 +1,14 @@
+package com.example.springstart.domain.common.exception;
+
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+
+/**
+ * 인증/인가 실패 (로그인 실패, 잘못된 토큰, 밴/잠금 사용자)
+ * - 크리덴셜 스터핑처럼 대량으로 발생할 수 있으므로 ApiException과 같이 스택 트레이스 없이 만들어진다.
+ */
+public class AuthException extends ApiException {
+
+    public AuthException(ExceptionMessage exceptionMessage) {
+        super(exceptionMessage);
+    }
+}
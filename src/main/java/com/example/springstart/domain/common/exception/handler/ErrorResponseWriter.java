@@ -0,0 +1,70 @@
+package com.example.springstart.domain.common.exception.handler;
+
+import com.example.springstart.domain.common.exception.dto.ApiErrorResponseDto;
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 고정된 에러 응답(ExceptionMessage)을 미리 직렬화해 두고 그대로 쓰는 컴포넌트
+ * - 시작 시 ExceptionMessage마다 ApiErrorResponseDto JSON을 UTF-8 바이트로 한 번만 만든다.
+ * - 시큐리티 필터 단계(401/403)는 바이트를 출력 스트림에 바로 쓰고,
+ *   GlobalExceptionHandler는 같은 바이트를 ResponseEntity 본문으로 돌려준다. (메시지 컨버터도 복사만 한다)
+ * - 응답 형식({"code", "status", "message"})은 기존 ApiErrorResponseDto 직렬화 결과와 같다.
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+    private static final MediaType MEDIA_TYPE = MediaType.parseMediaType(CONTENT_TYPE);
+
+    private final Map<ExceptionMessage, byte[]> bodies = new EnumMap<>(ExceptionMessage.class);
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) {
+        for (ExceptionMessage message : ExceptionMessage.values()) {
+            HttpStatus status = message.getStatus();
+            try {
+                bodies.put(message, objectMapper.writeValueAsBytes(
+                        new ApiErrorResponseDto(status.value(), status.name(), message.getMessage())));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("에러 응답 직렬화 실패: " + message, e);
+            }
+        }
+    }
+
+    /**
+     * 서블릿 응답에 에러 본문을 바로 쓰는 메서드 (시큐리티 필터 단계에서 사용)
+     *
+     * @param response HTTP 응답
+     * @param message  에러 종류
+     * @throws IOException 출력 스트림 쓰기 실패
+     */
+    public void write(HttpServletResponse response, ExceptionMessage message) throws IOException {
+        byte[] body = bodies.get(message);
+        response.setStatus(message.getStatus().value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * 에러 본문을 담은 ResponseEntity를 만드는 메서드 (@ExceptionHandler에서 사용)
+     *
+     * @param message 에러 종류
+     * @return 미리 직렬화된 본문을 가진 응답
+     */
+    public ResponseEntity<byte[]> toResponseEntity(ExceptionMessage message) {
+        return ResponseEntity.status(message.getStatus())
+                .contentType(MEDIA_TYPE)
+                .body(bodies.get(message));
+    }
+}
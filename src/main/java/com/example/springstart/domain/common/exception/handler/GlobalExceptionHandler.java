@@ -1,7 +1,11 @@
 package com.example.springstart.domain.common.exception.handler;
 
+import com.example.springstart.domain.common.exception.ApiException;
 import com.example.springstart.domain.common.exception.dto.ApiErrorResponseDto;
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -19,6 +23,45 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ErrorResponseWriter errorResponseWriter;
+    private final RateLimitedLog rateLimitedLog;
+
+    public GlobalExceptionHandler(ErrorResponseWriter errorResponseWriter,
+                                  @Value("${springboot.exception.log-interval-ms:10000}") long logIntervalMillis) {
+        this.errorResponseWriter = errorResponseWriter;
+        this.rateLimitedLog = new RateLimitedLog(logIntervalMillis);
+    }
+
+    /**
+     * 예상 가능한 실패 처리 (ApiException, AuthException)
+     * - ExceptionMessage에 정의된 상태 코드(401/403/404/409/429 등)와 메시지로 응답한다.
+     * - 요청마다 ERROR 로그를 남기지 않고 종류별 건수만 주기적으로 기록한다. (RateLimitedLog)
+     * - 본문은 ErrorResponseWriter가 미리 직렬화해 둔 JSON 바이트를 그대로 쓴다.
+     *
+     * @param e ApiException 예외 객체
+     * @return ResponseEntity<byte[]> JSON 응답
+     */
+    @ExceptionHandler(ApiException.class)
+    public ResponseEntity<byte[]> handleException(ApiException e) {
+        return respond(e.getExceptionMessage());
+    }
+
+    /**
+     * 서비스에서 토큰을 직접 파싱하다 실패한 경우 (/logout, /refresh 의 만료/위조 토큰)
+     *
+     * @param e JwtException 예외 객체
+     * @return ResponseEntity<byte[]> JSON 응답 (401)
+     */
+    @ExceptionHandler(JwtException.class)
+    public ResponseEntity<byte[]> handleException(JwtException e) {
+        return respond(ExceptionMessage.ACCESS_TOKEN_INVALID);
+    }
+
+    private ResponseEntity<byte[]> respond(ExceptionMessage message) {
+        rateLimitedLog.record(message);
+        return errorResponseWriter.toResponseEntity(message);
+    }
+
     /**
      * DTO 검증 실패 예외 처리 (MethodArgumentNotValidException)
      * - `@Valid` 또는 `@Validated` 사용 시 유효성 검사 실패하면 발생하는 예외
@@ -0,0 +1,59 @@
+package com.example.springstart.domain.common.exception.handler;
+
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 예상 가능한 실패(ApiException)를 종류별로 일정 간격에 한 줄만 남기는 로그
+ * - 요청마다 로그를 쓰지 않고 개수만 세다가, 간격이 지나면 그동안의 건수를 합쳐 한 번 기록한다.
+ * - 공격 트래픽이 몰려도 로그 양은 (ExceptionMessage 종류 수 / 간격)으로 고정된다.
+ */
+@Slf4j
+public class RateLimitedLog {
+
+    private final long intervalNanos;
+    private final Map<ExceptionMessage, Window> windows = new EnumMap<>(ExceptionMessage.class);
+
+    public RateLimitedLog(long intervalMillis) {
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        long now = System.nanoTime();
+        for (ExceptionMessage message : ExceptionMessage.values()) {
+            windows.put(message, new Window(now));
+        }
+    }
+
+    /**
+     * 실패 한 건을 기록하는 메서드
+     *
+     * @param message 실패 종류
+     * @return 이번 호출에서 로그를 남겼으면 true
+     */
+    public boolean record(ExceptionMessage message) {
+        Window window = windows.get(message);
+        window.count.increment();
+
+        long now = System.nanoTime();
+        long next = window.nextLogAt.get();
+        if (now - next < 0 || !window.nextLogAt.compareAndSet(next, now + intervalNanos)) {
+            return false;
+        }
+        long count = window.count.sumThenReset();
+        log.info("{} ({}) {}건", message.name(), message.getStatus().value(), count);
+        return true;
+    }
+
+    private static final class Window {
+        private final AtomicLong nextLogAt;
+        private final LongAdder count = new LongAdder();
+
+        private Window(long now) {
+            this.nextLogAt = new AtomicLong(now);
+        }
+    }
+}
@@ -8,11 +8,27 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum ExceptionMessage {
     //DEPARTMENT_NOT_FOUND("학과 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    // 시큐리티 필터 단계의 401/403 (AuthenticationEntryPointImpl, AccessDeniedHandlerImpl)
+    AUTHENTICATION_REQUIRED("인증이 필요합니다. 올바른 인증 정보를 제공해주세요.", HttpStatus.UNAUTHORIZED),
+    ACCESS_DENIED("Forbidden", HttpStatus.FORBIDDEN),
+    // 아이디가 없거나 비밀번호가 틀린 경우를 구분하지 않는다 (아이디 존재 여부 노출 방지)
     INVALID_CREDENTIALS("아이디 또는 비밀번호가 올바르지 않습니다.", HttpStatus.UNAUTHORIZED),
     ACCESS_TOKEN_INVALID("토큰이 유효하지 않습니다.", HttpStatus.UNAUTHORIZED),
-    REFRESH_TOKEN_INVALID("토큰이 유효하지 않습니다.", HttpStatus.UNAUTHORIZED);
+    REFRESH_TOKEN_INVALID("토큰이 유효하지 않습니다.", HttpStatus.UNAUTHORIZED),
+    USER_BANNED("이용이 제한된 사용자입니다.", HttpStatus.FORBIDDEN),
+    ACCOUNT_LOCKED("비밀번호 오류 횟수를 초과하여 잠긴 계정입니다.", HttpStatus.TOO_MANY_REQUESTS),
+    USERNAME_DUPLICATED("이미 사용 중인 아이디입니다.", HttpStatus.CONFLICT),
+    PASSWORD_CONFIRM_MISMATCH("새 비밀번호가 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
+    // 유출 목록에 있는 비밀번호 (BreachedPasswordChecker)
+    PASSWORD_BREACHED("유출된 적이 있는 비밀번호입니다. 다른 비밀번호를 사용해주세요.", HttpStatus.BAD_REQUEST),
+    USER_NOT_FOUND("사용자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    // Redis(리프레시 토큰/블랙리스트 저장소)를 쓸 수 없는 경우 (RedisTokenStore)
+    TOKEN_STORE_UNAVAILABLE("일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    // 관리자 JFR 녹화 (JfrRecordingService) - 한 번에 하나만 녹화한다
+    PROFILING_ALREADY_RUNNING("이미 진행 중인 JFR 녹화가 있습니다.", HttpStatus.CONFLICT),
+    PROFILING_NOT_RUNNING("진행 중인 JFR 녹화가 없습니다.", HttpStatus.NOT_FOUND);
 
     private final String message;
 
     private final HttpStatus status;
-}
\ No newline at end of file
+}
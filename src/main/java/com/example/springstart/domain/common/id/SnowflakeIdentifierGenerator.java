@@ -0,0 +1,15 @@
+package com.example.springstart.domain.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * @SnowflakeId 필드에 SnowflakeIds의 값을 넣는 Hibernate 생성기
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return SnowflakeIds.next();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.springstart.domain.common.id;
+
+/**
+ * 애플리케이션 전체에서 공유하는 Snowflake 생성기
+ * - Hibernate가 직접 만드는 @SnowflakeId 생성기와 JDBC 배치 INSERT(가져오기 등)가 같은 인스턴스를 써야
+ *   같은 노드 안에서 ID가 겹치지 않으므로 정적 보관한다.
+ * - 노드 ID는 시작 시 IdGeneratorConfig가 springboot.id.node-id로 설정한다. (설정 전에는 0)
+ */
+public final class SnowflakeIds {
+
+    private static volatile SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0);
+
+    private SnowflakeIds() {
+    }
+
+    public static long next() {
+        return generator.nextId();
+    }
+
+    public static void configure(int nodeId) {
+        generator = new SnowflakeIdGenerator(nodeId);
+    }
+}
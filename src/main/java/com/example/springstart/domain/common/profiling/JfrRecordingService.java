@@ -0,0 +1,134 @@
+package com.example.springstart.domain.common.profiling;
+
+import com.example.springstart.domain.common.exception.ApiException;
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * 외부 에이전트 없이 운영 중인 인스턴스를 잠깐 프로파일링하는 JFR 녹화 (관리자 API용)
+ * - 한 번에 하나만 녹화한다. 녹화 시간은 max-duration-seconds, 디스크에 쌓이는 크기는 max-size-mb를 넘지 않는다.
+ * - 녹화 시간이 지나면 JFR이 스스로 멈추고, 데이터는 stop()으로 파일을 받을 때까지 보관한다.
+ * - JDK 이벤트(settings: default/profile)와 인증 구간 이벤트(AuthEvents)가 함께 기록된다.
+ *   녹화가 없을 때는 이벤트 기록 비용이 거의 없다.
+ */
+@Slf4j
+@Service
+public class JfrRecordingService {
+
+    private static final String RECORDING_NAME = "springstart-admin";
+
+    private final String settings;
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+
+    // synchronized 메서드 안에서만 읽고 쓴다
+    private Recording recording;
+
+    public JfrRecordingService(@Value("${springboot.profiling.jfr.settings:profile}") String settings,
+                               @Value("${springboot.profiling.jfr.max-duration-seconds:300}") long maxDurationSeconds,
+                               @Value("${springboot.profiling.jfr.max-size-mb:100}") long maxSizeMb) {
+        this.settings = settings;
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+    }
+
+    /**
+     * 녹화를 시작하는 메서드
+     *
+     * @param duration 녹화 시간 (max-duration-seconds보다 길면 잘라낸다)
+     * @return 시작한 녹화 상태
+     */
+    public synchronized JfrRecordingStatus start(Duration duration) {
+        if (recording != null) {
+            throw new ApiException(ExceptionMessage.PROFILING_ALREADY_RUNNING);
+        }
+        Duration bounded = duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+        if (bounded.isNegative() || bounded.isZero()) {
+            bounded = Duration.ofSeconds(1);
+        }
+        Recording started = new Recording(configuration());
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxSize(maxSizeBytes);
+        started.setDuration(bounded);
+        started.start();
+        recording = started;
+        log.info("JFR 녹화 시작: settings={}, duration={}s, maxSize={}MB",
+                settings, bounded.toSeconds(), maxSizeBytes / 1024 / 1024);
+        return status(started);
+    }
+
+    /**
+     * 진행 중(또는 시간이 지나 멈춘) 녹화 상태를 조회하는 메서드
+     *
+     * @return 녹화 상태, 녹화가 없으면 null
+     */
+    public synchronized JfrRecordingStatus status() {
+        return recording == null ? null : status(recording);
+    }
+
+    /**
+     * 녹화를 멈추고 .jfr 파일로 내보내는 메서드 (파일은 호출한 쪽에서 전송 후 지운다)
+     *
+     * @return 녹화 파일 경로 (임시 디렉터리)
+     */
+    public synchronized Path stop() {
+        if (recording == null) {
+            throw new ApiException(ExceptionMessage.PROFILING_NOT_RUNNING);
+        }
+        Recording stopped = recording;
+        recording = null;
+        try {
+            if (stopped.getState() == RecordingState.RUNNING) {
+                stopped.stop();
+            }
+            Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            stopped.dump(file);
+            log.info("JFR 녹화 종료: {} bytes", Files.size(file));
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("JFR 녹화 파일 저장 실패", e);
+        } finally {
+            stopped.close();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Configuration configuration() {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR 설정을 읽을 수 없습니다: " + settings, e);
+        }
+    }
+
+    private JfrRecordingStatus status(Recording recording) {
+        return new JfrRecordingStatus(
+                recording.getState().name(),
+                settings,
+                recording.getStartTime(),
+                recording.getDuration().toSeconds(),
+                recording.getMaxSize(),
+                recording.getSize());
+    }
+}
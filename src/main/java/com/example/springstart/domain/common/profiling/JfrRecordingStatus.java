@@ -0,0 +1,19 @@
+package com.example.springstart.domain.common.profiling;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * 관리자 JFR 녹화 상태
+ * - state: RUNNING(녹화 중), STOPPED(녹화 시간이 지나 자동으로 멈춤, 아직 파일을 받지 않음)
+ */
+@Value
+public class JfrRecordingStatus {
+    String state;
+    String settings;
+    Instant startedAt;
+    long durationSeconds;
+    long maxSizeBytes;
+    long recordedBytes;
+}
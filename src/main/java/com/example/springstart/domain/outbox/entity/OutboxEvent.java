@@ -0,0 +1,42 @@
+package com.example.springstart.domain.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 Redis Stream으로 보내지 않은 사용자 변경 이벤트 (transactional outbox)
+ * - 사용자 변경과 같은 트랜잭션에서 OutboxEventWriter가 INSERT 하고, OutboxRelay가 보낸 뒤 DELETE 한다.
+ * - 이 엔티티는 스키마 정의용이며 읽기/쓰기는 JDBC로 한다.
+ */
+@Entity
+@Getter
+@Immutable
+@NoArgsConstructor
+public class OutboxEvent {
+
+    // Snowflake (시간순) - relay는 id 순으로 보낸다
+    @Id
+    Long id;
+
+    // 변경된 사용자 id (소비자는 이 값으로 파티션/캐시 무효화)
+    @Column(nullable = false)
+    Long aggregateId;
+
+    // MariaDB 네이티브 ENUM 대신 VARCHAR (마이그레이션 스크립트와 일치, 이벤트 종류 추가 시 큰 테이블 ALTER 불필요)
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 32)
+    OutboxEventType type;
+
+    @Column(nullable = false)
+    String username;
+
+    @Column(nullable = false)
+    LocalDateTime createdAt;
+}
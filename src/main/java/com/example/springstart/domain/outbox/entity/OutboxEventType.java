@@ -0,0 +1,10 @@
+package com.example.springstart.domain.outbox.entity;
+
+public enum OutboxEventType {
+    USER_UPDATED,
+    PASSWORD_CHANGED,
+    USER_BANNED,
+    USER_UNBANNED,
+    USER_UNLOCKED,
+    USER_DELETED
+}
@@ -0,0 +1,193 @@
+package com.example.springstart.domain.outbox.relay;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 이벤트를 Redis Stream으로 보내는 relay
+ * - id 순으로 batch-size 만큼 읽어 XADD를 파이프라인으로 한 번에 보내고, 성공하면 그 행들을 DELETE 한다.
+ * - XADD 후 DELETE 전에 중단되면 다음 실행에서 다시 보낸다. (at-least-once, 소비자는 eventId로 중복 제거)
+ * - 여러 인스턴스가 떠 있어도 Redis 리더 키를 잡은 인스턴스 하나만 보내므로, 보내는 순서는 테이블의 id 순서와 같다.
+ *   단, id(Snowflake)는 이벤트를 만든 인스턴스마다 따로 생성하므로, 인스턴스 간 시계 차이보다 짧은 간격으로
+ *   다른 인스턴스에서 같은 사용자의 이벤트가 만들어지면 id 순서가 실제 커밋 순서와 다를 수 있다.
+ *   소비자는 사용자별 순서를 엄격히 가정하지 말고, 필요하면 최신 상태를 다시 조회한다.
+ *   리더 키 연장은 "내 값일 때만 PEXPIRE"를 Lua 한 번으로 처리해, 만료 직후 다른 인스턴스가 잡은 키를 연장하지 않는다.
+ *   한 번의 실행은 leader-ttl의 절반 안에 끝내고, 남은 행은 리더 키를 다시 확인하는 다음 실행에서 보낸다.
+ * - 메트릭 (metrics-interval-ms마다 리더 인스턴스만 조회해 갱신하고, 리더가 아닌 인스턴스는 0으로 보고한다)
+ *   - outbox.pending: 아직 보내지 않은 이벤트 수, outbox.lag: 가장 오래된 미전송 이벤트의 나이(초)
+ *   - outbox.published / outbox.publish.failures
+ *   - outbox.stream.consumer.pending{group}: 소비자 그룹별 아직 ACK 하지 않은 메시지 수
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    static final String LEADER_KEY = "outbox:relay:leader";
+
+    private static final RedisScript<Long> RENEW_LEADERSHIP = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) end return 0",
+            Long.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final String streamKey;
+    private final int batchSize;
+    private final XAddOptions addOptions;
+    private final Duration leaderTtl;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Counter published;
+    private final Counter failures;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final MultiGauge consumerPending;
+    private volatile boolean leader;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       StringRedisTemplate redisTemplate,
+                       MeterRegistry registry,
+                       @Value("${springboot.outbox.stream-key:user-events}") String streamKey,
+                       @Value("${springboot.outbox.batch-size:500}") int batchSize,
+                       @Value("${springboot.outbox.stream-max-length:100000}") long streamMaxLength,
+                       @Value("${springboot.outbox.leader-ttl-ms:5000}") long leaderTtlMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.redisTemplate = redisTemplate;
+        this.streamKey = streamKey;
+        this.batchSize = batchSize;
+        this.addOptions = XAddOptions.maxlen(streamMaxLength).approximateTrimming(true);
+        this.leaderTtl = Duration.ofMillis(leaderTtlMs);
+
+        this.published = Counter.builder("outbox.published").register(registry);
+        this.failures = Counter.builder("outbox.publish.failures").register(registry);
+        Gauge.builder("outbox.pending", pending, AtomicLong::get).strongReference(true).register(registry);
+        Gauge.builder("outbox.lag", lagSeconds, AtomicLong::get).strongReference(true).baseUnit("seconds").register(registry);
+        this.consumerPending = MultiGauge.builder("outbox.stream.consumer.pending").register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${springboot.outbox.relay-interval-ms:200}")
+    public void relay() {
+        try {
+            long start = System.nanoTime();
+            leader = holdLeadership();
+            if (!leader) {
+                return;
+            }
+            // 리더 키가 만료되기 전에 멈춘다 (만료 후에는 다른 인스턴스가 리더가 되어 함께 보낼 수 있다)
+            long deadline = start + leaderTtl.toNanos() / 2;
+            int sent;
+            do {
+                sent = relayBatch();
+            } while (sent == batchSize && System.nanoTime() - deadline < 0);
+        } catch (DataAccessException e) {
+            // Redis/DB 장애: 행을 지우지 않았으므로 다음 실행에서 다시 보낸다
+            failures.increment();
+            log.warn("outbox relay 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 리더 키를 새로 잡거나, 이미 잡고 있으면 만료 시간을 연장한다. (확인과 연장은 원자적으로)
+     */
+    private boolean holdLeadership() {
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LEADER_KEY, instanceId, leaderTtl))) {
+            return true;
+        }
+        Long renewed = redisTemplate.execute(RENEW_LEADERSHIP, List.of(LEADER_KEY),
+                instanceId, Long.toString(leaderTtl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    /**
+     * @return 보낸 이벤트 수
+     */
+    int relayBatch() {
+        List<Map<String, String>> events = jdbcTemplate.query(
+                "SELECT id, aggregateId, type, username, createdAt FROM OutboxEvent ORDER BY id LIMIT ?",
+                (rs, rowNum) -> {
+                    Map<String, String> fields = new LinkedHashMap<>();
+                    fields.put("eventId", Long.toString(rs.getLong(1)));
+                    fields.put("userId", Long.toString(rs.getLong(2)));
+                    fields.put("type", rs.getString(3));
+                    fields.put("username", rs.getString(4));
+                    fields.put("occurredAt", Long.toString(rs.getTimestamp(5).getTime()));
+                    return fields;
+                },
+                batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                for (Map<String, String> fields : events) {
+                    redis.opsForStream().add(StreamRecords.string(fields).withStreamKey(streamKey), addOptions);
+                }
+                return null;
+            }
+        });
+
+        List<Long> ids = events.stream().map(fields -> Long.parseLong(fields.get("eventId"))).toList();
+        namedJdbcTemplate.update("DELETE FROM OutboxEvent WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids));
+        published.increment(events.size());
+        return events.size();
+    }
+
+    /**
+     * 미전송 이벤트 수/지연, 소비자 그룹별 미확인 메시지 수를 갱신한다.
+     * - 테이블 전체 COUNT와 XINFO GROUPS를 보내므로 relay 주기가 아닌 별도의 느린 주기로, 리더 인스턴스에서만 실행한다.
+     */
+    @Scheduled(fixedDelayString = "${springboot.outbox.metrics-interval-ms:10000}")
+    public void updateMetrics() {
+        if (!leader) {
+            pending.set(0L);
+            lagSeconds.set(0L);
+            consumerPending.register(List.of(), true);
+            return;
+        }
+        try {
+            jdbcTemplate.query("SELECT COUNT(*), MIN(createdAt) FROM OutboxEvent", rs -> {
+                pending.set(rs.getLong(1));
+                Timestamp oldest = rs.getTimestamp(2);
+                lagSeconds.set(oldest == null ? 0L : Math.max(0L, (System.currentTimeMillis() - oldest.getTime()) / 1000L));
+            });
+            XInfoGroups groups = redisTemplate.opsForStream().groups(streamKey);
+            consumerPending.register(groups.stream()
+                    .map(group -> MultiGauge.Row.of(Tags.of("group", group.groupName()), group.pendingCount()))
+                    .toList(), true);
+        } catch (DataAccessException e) {
+            // 스트림이 아직 없거나(XINFO 오류) 일시 장애 - 메트릭만 건너뛴다
+            log.debug("outbox 지연 메트릭 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
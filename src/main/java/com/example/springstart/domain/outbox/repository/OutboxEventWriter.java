@@ -0,0 +1,55 @@
+package com.example.springstart.domain.outbox.repository;
+
+import com.example.springstart.domain.common.id.SnowflakeIds;
+import com.example.springstart.domain.outbox.entity.OutboxEventType;
+import com.example.springstart.domain.user.repository.UserRepository.UserKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 변경 이벤트를 outbox 테이블에 쓴다.
+ * - 반드시 변경을 일으킨 트랜잭션 안에서 호출해야 한다. (MANDATORY: 트랜잭션이 없으면 예외)
+ *   변경과 이벤트가 함께 커밋되거나 함께 롤백된다.
+ * - 변경 UPDATE/DELETE로 행 잠금을 잡은 뒤에 호출하므로, 같은 사용자에 대한 이벤트 id(Snowflake)는 커밋 순서를 따른다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxEventWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO OutboxEvent (id, aggregateId, type, username, createdAt) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(OutboxEventType type, UserKey user) {
+        append(type, user.getId(), user.getUsername());
+    }
+
+    public void append(OutboxEventType type, Long userId, String username) {
+        jdbcTemplate.update(INSERT_SQL, SnowflakeIds.next(), userId, type.name(), username, now());
+    }
+
+    public void appendAll(OutboxEventType type, List<? extends UserKey> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Timestamp now = now();
+        List<Object[]> rows = new ArrayList<>(users.size());
+        for (UserKey user : users) {
+            rows.add(new Object[]{SnowflakeIds.next(), user.getId(), type.name(), user.getUsername(), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private static Timestamp now() {
+        return new Timestamp(System.currentTimeMillis());
+    }
+}
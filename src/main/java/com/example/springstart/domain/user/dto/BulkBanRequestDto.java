@@ -0,0 +1,19 @@
+package com.example.springstart.domain.user.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkBanRequestDto {
+
+    @NotEmpty
+    @Size(max = 10000)
+    private List<String> usernames;
+
+    @NotNull
+    private Boolean ban;
+}
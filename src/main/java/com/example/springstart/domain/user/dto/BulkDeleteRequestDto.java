@@ -0,0 +1,15 @@
+package com.example.springstart.domain.user.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkDeleteRequestDto {
+
+    @NotEmpty
+    @Size(max = 10000)
+    private List<String> usernames;
+}
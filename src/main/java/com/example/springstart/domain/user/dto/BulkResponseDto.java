@@ -0,0 +1,19 @@
+package com.example.springstart.domain.user.dto;
+
+import lombok.Data;
+
+/**
+ * 일괄 처리 결과
+ * - requested: 요청된 대상 수 (중복 제거 후, allLocked 요청은 처리된 수와 같음)
+ * - affected: 실제로 변경된 행 수 (없는 사용자는 제외)
+ */
+@Data
+public class BulkResponseDto {
+    int requested;
+    int affected;
+
+    public BulkResponseDto(int requested, int affected) {
+        this.requested = requested;
+        this.affected = affected;
+    }
+}
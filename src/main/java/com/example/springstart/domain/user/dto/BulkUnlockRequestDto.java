@@ -0,0 +1,25 @@
+package com.example.springstart.domain.user.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 일괄 잠금 해제 요청
+ * - usernames를 지정하거나, allLocked=true로 잠긴 계정 전체를 대상으로 한다.
+ */
+@Data
+public class BulkUnlockRequestDto {
+
+    @Size(max = 10000)
+    private List<String> usernames;
+
+    private boolean allLocked;
+
+    @AssertTrue(message = "usernames 또는 allLocked 중 하나만 지정해야 합니다")
+    public boolean isTargetSpecified() {
+        return allLocked == (usernames == null || usernames.isEmpty());
+    }
+}
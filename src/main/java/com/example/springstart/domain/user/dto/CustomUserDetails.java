@@ -1,46 +1,71 @@
 package com.example.springstart.domain.user.dto;
 
 import com.example.springstart.domain.user.entity.User;
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import com.example.springstart.domain.user.entity.UserRoleType;
+import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.io.Serial;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 
-@Data
-public class CustomUserDetails implements UserDetails {
+/**
+ * 요청마다 SecurityContext에 들어가는 인증 주체
+ * - JPA 엔티티를 감싸지 않고 인가에 필요한 값(id, username, role, 밴/잠금 여부)만 가지는 불변 객체다.
+ * - 비밀번호 해시, 이메일, 감사 시각은 담지 않으므로 로그에 찍히거나 직렬화되어도 노출되지 않는다.
+ * - UserRepository.findPrincipalByUsername의 생성자 프로젝션으로 엔티티/영속성 컨텍스트 없이 바로 만들어진다.
+ */
+@Getter
+public final class CustomUserDetails implements UserDetails {
 
-    private User user;
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String username;
+    private final UserRoleType role;
+    private final boolean banned;
+    private final boolean locked;
+
+    /**
+     * 조회 결과로 CustomUserDetails 생성 (JPQL 생성자 프로젝션에서 사용)
+     *
+     * @param id                 사용자 id
+     * @param username           사용자 이름
+     * @param role               권한
+     * @param banned             밴 여부
+     * @param passwordErrorCount 비밀번호 오류 횟수
+     */
+    public CustomUserDetails(Long id, String username, UserRoleType role, Boolean banned, Integer passwordErrorCount) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+        this.banned = Boolean.TRUE.equals(banned);
+        this.locked = passwordErrorCount != null && passwordErrorCount > User.MAX_PASSWORD_ERROR_COUNT;
+    }
 
     /**
-     * User 엔티티를 기반으로 CustomUserDetails 생성
+     * 이미 읽어 온 User 엔티티로 CustomUserDetails 생성
+     *
      * @param user 사용자 엔티티
+     * @return 인증 주체
      */
-    public CustomUserDetails(User user) {
-        this.user = user;
+    public static CustomUserDetails from(User user) {
+        return new CustomUserDetails(user.getId(), user.getUsername(), user.getRole(),
+                user.getBanned(), user.getPasswordErrorCount());
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-        );
+        return role.getAuthorities();
     }
 
+    /**
+     * JWT로 인증하므로 비밀번호 해시는 주체에 담지 않는다.
+     */
     @Override
     public String getPassword() {
-        //return password;
-        return user.getPassword();
-    }
-
-    @Override
-    public String getUsername() {
-        //return username;
-        return user.getUsername();
+        return null;
     }
 
     @Override
@@ -50,7 +75,7 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isAccountNonLocked() {
-        return user.getPasswordErrorCount() <= 4;
+        return !locked;
     }
 
     @Override
@@ -60,7 +85,24 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        //return !banned;
-        return !user.getBanned();
+        return !banned;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof CustomUserDetails other && username.equals(other.username);
+    }
+
+    @Override
+    public int hashCode() {
+        return username.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CustomUserDetails(id=" + id + ", username=" + username + ", role=" + role + ")";
     }
-}
\ No newline at end of file
+}
@@ -1,18 +1,28 @@
 package com.example.springstart.domain.user.entity;
 
 import com.example.springstart.domain.common.BaseEntity;
+import com.example.springstart.domain.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Getter
+@DynamicUpdate // 변경 감지로 UPDATE 할 때 바뀐 컬럼만 SET 절에 포함
+@Table(indexes = @Index(name = "uk_user_username", columnList = "username", unique = true))
 @NoArgsConstructor
 public class User extends BaseEntity{
 
+    /**
+     * 비밀번호 오류 허용 횟수 (초과 시 계정 잠금)
+     */
+    public static final int MAX_PASSWORD_ERROR_COUNT = 4;
+
+    // 시간순 Snowflake ID (INSERT 배치 가능, 기존 AUTO_INCREMENT 값보다 항상 큼)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     Long id;
 
     @Column(nullable = false)
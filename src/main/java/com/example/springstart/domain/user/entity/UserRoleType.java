@@ -1,6 +1,77 @@
 package com.example.springstart.domain.user.entity;
 
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 권한
+ * - 권한 문자열(ROLE_xxx)과 GrantedAuthority 목록, 계층상 도달 가능한 권한 목록을 클래스 로딩 시 한 번만 만들어 둔다.
+ * - 요청마다 문자열 연결이나 SimpleGrantedAuthority 생성 없이 같은 불변 리스트를 돌려준다.
+ */
 public enum UserRoleType {
     ADMIN,
     USER,
-}
\ No newline at end of file
+    ;
+
+    public static final String ROLE_PREFIX = "ROLE_";
+
+    private final String authority = ROLE_PREFIX + name();
+    private final List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(authority));
+    private List<GrantedAuthority> reachableAuthorities;
+
+    static {
+        // 권한 계층: 상위 권한 -> 바로 아래 권한
+        Map<UserRoleType, Set<UserRoleType>> implies = new EnumMap<>(UserRoleType.class);
+        implies.put(ADMIN, EnumSet.of(USER));
+
+        for (UserRoleType role : values()) {
+            Set<UserRoleType> reachable = EnumSet.of(role);
+            collect(role, implies, reachable);
+            List<GrantedAuthority> list = new ArrayList<>(reachable.size());
+            list.add(role.authorities.get(0));
+            for (UserRoleType implied : reachable) {
+                if (implied != role) {
+                    list.add(implied.authorities.get(0));
+                }
+            }
+            role.reachableAuthorities = Collections.unmodifiableList(list);
+        }
+    }
+
+    private static void collect(UserRoleType role, Map<UserRoleType, Set<UserRoleType>> implies, Set<UserRoleType> reachable) {
+        for (UserRoleType implied : implies.getOrDefault(role, Set.of())) {
+            if (reachable.add(implied)) {
+                collect(implied, implies, reachable);
+            }
+        }
+    }
+
+    /**
+     * @return 시큐리티 권한 문자열 (ROLE_ 접두사 포함)
+     */
+    public String getAuthority() {
+        return authority;
+    }
+
+    /**
+     * @return 이 권한 하나만 담은 불변 리스트
+     */
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * @return 권한 계층을 따라 도달 가능한 권한 전체 (자기 자신이 첫 번째), 불변 리스트
+     */
+    public List<GrantedAuthority> getReachableAuthorities() {
+        return reachableAuthorities;
+    }
+}
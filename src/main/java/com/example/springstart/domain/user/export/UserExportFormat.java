@@ -0,0 +1,17 @@
+package com.example.springstart.domain.user.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 내보내기 형식과 응답 Content-Type
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+}
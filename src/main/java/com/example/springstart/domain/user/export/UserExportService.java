@@ -0,0 +1,158 @@
+package com.example.springstart.domain.user.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * 사용자 전체 내보내기 (NDJSON / CSV)
+ * - 엔티티나 페이지를 만들지 않고 forward-only 커서(fetch-size 단위)로 한 행씩 읽어 바로 출력 스트림에 쓴다.
+ *   테이블 크기와 관계없이 메모리는 fetch-size 만큼의 행과 출력 버퍼만 사용한다.
+ * - 읽기 전용 트랜잭션 하나로 실행하므로 replica가 설정되어 있으면 replica에서 읽는다.
+ * - 비밀번호 해시는 내보내지 않는다.
+ */
+@Slf4j
+@Service
+public class UserExportService {
+
+    private static final String SELECT_SQL = "SELECT id, username, email, role, Banned, passwordErrorCount, createdAt FROM User ORDER BY id";
+    private static final String CSV_HEADER = "id,username,email,role,banned,passwordErrorCount,createdAt\n";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public UserExportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${springboot.export.fetch-size:1000}") int fetchSize) {
+        // 설정을 바꾸면 주입받은 공용 JdbcTemplate에도 영향이 가므로 내보내기 전용 인스턴스를 만든다.
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 전체 사용자를 출력 스트림에 쓰는 메서드 (스트림은 닫지 않는다)
+     *
+     * @param out    출력 스트림
+     * @param format 출력 형식
+     * @return 내보낸 행 수
+     */
+    public long export(OutputStream out, UserExportFormat format) throws IOException {
+        long started = System.nanoTime();
+        long count;
+        try {
+            count = format == UserExportFormat.NDJSON ? exportNdjson(out) : exportCsv(out);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("사용자 내보내기 ({}): {}건, {} ms", format, count, (System.nanoTime() - started) / 1_000_000L);
+        return count;
+    }
+
+    private long exportNdjson(OutputStream out) throws IOException {
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            long count = stream(rs -> {
+                json.writeStartObject();
+                // Snowflake id (2^53 초과)는 JSON 숫자로 쓰면 JavaScript에서 정밀도를 잃으므로 문자열로 쓴다
+                json.writeStringField("id", Long.toString(rs.getLong(1)));
+                json.writeStringField("username", rs.getString(2));
+                json.writeStringField("email", rs.getString(3));
+                json.writeStringField("role", rs.getString(4));
+                json.writeBooleanField("banned", rs.getBoolean(5));
+                json.writeNumberField("passwordErrorCount", rs.getInt(6));
+                Timestamp createdAt = rs.getTimestamp(7);
+                json.writeStringField("createdAt", createdAt == null ? null : createdAt.toLocalDateTime().toString());
+                json.writeEndObject();
+            });
+            if (count > 0) {
+                json.writeRaw('\n');
+            }
+            return count;
+        }
+    }
+
+    private long exportCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write(CSV_HEADER);
+        long count = stream(rs -> {
+            writer.write(Long.toString(rs.getLong(1)));
+            writer.write(',');
+            writeCsvField(writer, rs.getString(2));
+            writer.write(',');
+            writeCsvField(writer, rs.getString(3));
+            writer.write(',');
+            writeCsvField(writer, rs.getString(4));
+            writer.write(',');
+            writer.write(Boolean.toString(rs.getBoolean(5)));
+            writer.write(',');
+            writer.write(Integer.toString(rs.getInt(6)));
+            writer.write(',');
+            Timestamp createdAt = rs.getTimestamp(7);
+            if (createdAt != null) {
+                writer.write(createdAt.toLocalDateTime().toString());
+            }
+            writer.write('\n');
+        });
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * 쉼표, 큰따옴표, 줄바꿈이 들어간 값만 따옴표로 감싼다.
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private long stream(RowWriter rowWriter) {
+        Long count = readOnlyTransaction.execute(status -> {
+            long[] rows = {0L};
+            jdbcTemplate.query(SELECT_SQL, rs -> {
+                try {
+                    rowWriter.write(rs);
+                } catch (IOException e) {
+                    // 클라이언트가 연결을 끊은 경우 등: 커서를 닫고 트랜잭션을 끝낸 뒤 호출자에게 IOException으로 전달
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+            return rows[0];
+        });
+        return count == null ? 0L : count;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+}
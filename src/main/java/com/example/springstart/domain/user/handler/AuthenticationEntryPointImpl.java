@@ -1,12 +1,12 @@
 package com.example.springstart.domain.user.handler;
 
-import com.example.springstart.domain.common.exception.dto.ApiErrorResponseDto;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.springstart.domain.common.exception.handler.ErrorResponseWriter;
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import com.example.springstart.domain.user.jwt.JwtAuthenticationFilter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 
@@ -16,9 +16,14 @@ import java.io.IOException;
  * 인증되지 않은 사용자가 보호된 리소스에 접근하려고 할 때 실행되는 핸들러
  * - Spring Security에서 기본적으로 제공하는 `401 Unauthorized` 응답을 JSON 형식으로 변환하여 반환
  * - API 클라이언트에서 일관된 에러 응답을 받을 수 있도록 처리
+ * - 인증 없는 스캐너 요청이 몰리는 경로이므로 요청마다 직렬화하지 않는다. (ErrorResponseWriter)
+ * - 유효한 토큰이지만 밴/잠금 때문에 인증하지 않은 요청은 그 사유(USER_BANNED, ACCOUNT_LOCKED)로 응답한다.
  */
+@RequiredArgsConstructor
 public class AuthenticationEntryPointImpl implements AuthenticationEntryPoint {
 
+    private final ErrorResponseWriter errorResponseWriter;
+
     /**
      * 인증되지 않은 사용자가 보호된 리소스에 접근할 때 실행되는 메서드
      * - HTTP 상태 코드 `401 Unauthorized` 설정
@@ -33,22 +38,10 @@ public class AuthenticationEntryPointImpl implements AuthenticationEntryPoint {
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException)
             throws IOException, ServletException {
 
-        // HTTP 응답 상태 코드 설정 (401 Unauthorized)
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
-
-        // 응답을 JSON 형식으로 설정
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-
-        // Jackson ObjectMapper를 사용하여 ApiErrorResponseDto를 JSON으로 변환
-        ObjectMapper mapper = new ObjectMapper();
-        ApiErrorResponseDto errorResponseDto = new ApiErrorResponseDto(
-                HttpStatus.UNAUTHORIZED.value(),      // HTTP 상태 코드 (401)
-                HttpStatus.UNAUTHORIZED.name(),       // 상태 이름 ("UNAUTHORIZED")
-                "인증이 필요합니다. 올바른 인증 정보를 제공해주세요." // 사용자 친화적인 메시지
-        );
-
-        // JSON 응답 반환
-        response.getWriter().write(mapper.writeValueAsString(errorResponseDto));
+        // 상태 코드와 미리 직렬화해 둔 JSON 본문(UTF-8)을 그대로 쓴다
+        Object accountStatus = request.getAttribute(JwtAuthenticationFilter.ACCOUNT_STATUS_ATTRIBUTE);
+        errorResponseWriter.write(response, accountStatus instanceof ExceptionMessage message
+                ? message
+                : ExceptionMessage.AUTHENTICATION_REQUIRED);
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.example.springstart.domain.user.importer;
+
+import java.util.Locale;
+
+/**
+ * 일괄 가져오기 입력 형식
+ * - CSV: 첫 줄은 헤더 (username,password,email[,role][,passwordHash]), 열 순서는 자유
+ * - NDJSON: 한 줄에 JSON 객체 하나 ({"username":..., "password":..., "email":...})
+ */
+public enum UserImportFormat {
+    CSV,
+    NDJSON;
+
+    /**
+     * 파일 이름의 확장자로 형식을 정하는 메서드 (.ndjson, .jsonl 이외에는 CSV)
+     */
+    public static UserImportFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        return lower.endsWith(".ndjson") || lower.endsWith(".jsonl") ? NDJSON : CSV;
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.springstart.domain.user.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV / NDJSON 입력을 한 줄씩 읽어 UserImportRecord로 바꾸는 리더
+ * - 전체를 메모리에 올리지 않고 스트림에서 필요한 만큼만 읽는다.
+ * - 형식이 깨진 줄은 예외 대신 필드가 비어 있는 레코드로 돌려주고, 검증 단계에서 invalid로 집계한다.
+ * - 식별 컬럼(username, email, role)만 앞뒤 공백을 지운다. password/passwordHash는 공백도 비밀번호의 일부이므로
+ *   받은 그대로 넘기고, 값이 아예 없을 때만 null로 본다.
+ */
+public abstract class UserImportReader implements Closeable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    protected final BufferedReader reader;
+    protected long line;
+
+    protected UserImportReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    public static UserImportReader of(InputStream in, UserImportFormat format) throws IOException {
+        return format == UserImportFormat.NDJSON ? new Ndjson(in) : new Csv(in);
+    }
+
+    /**
+     * 다음 레코드를 읽는 메서드
+     *
+     * @return 다음 레코드, 입력이 끝났으면 null
+     */
+    public abstract UserImportRecord next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * 빈 줄을 건너뛰고 다음 줄을 읽는 메서드
+     */
+    protected String nextNonBlankLine() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+        } while (text != null && text.isBlank());
+        return text;
+    }
+
+    private static final class Csv extends UserImportReader {
+
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        private Csv(InputStream in) throws IOException {
+            super(in);
+            String header = nextNonBlankLine();
+            if (header == null) {
+                return;
+            }
+            List<String> names = split(header.startsWith("\uFEFF") ? header.substring(1) : header);
+            for (int i = 0; i < names.size(); i++) {
+                columns.put(names.get(i).trim(), i);
+            }
+        }
+
+        @Override
+        public UserImportRecord next() throws IOException {
+            String text = nextNonBlankLine();
+            if (text == null) {
+                return null;
+            }
+            List<String> fields = split(text);
+            return new UserImportRecord(++line,
+                    field(fields, "username"),
+                    raw(fields, "password"),
+                    raw(fields, "passwordHash"),
+                    field(fields, "email"),
+                    field(fields, "role"));
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private String raw(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index);
+            return value.isEmpty() ? null : value;
+        }
+
+        /**
+         * 큰따옴표로 감싼 필드("a,b", 내부의 "" 는 ")를 지원하는 한 줄 분리
+         */
+        private static List<String> split(String text) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+    }
+
+    private static final class Ndjson extends UserImportReader {
+
+        private Ndjson(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public UserImportRecord next() throws IOException {
+            String text = nextNonBlankLine();
+            if (text == null) {
+                return null;
+            }
+            long current = ++line;
+            JsonNode node;
+            try {
+                node = OBJECT_MAPPER.readTree(text);
+            } catch (IOException e) {
+                return UserImportRecord.malformed(current);
+            }
+            if (!node.isObject()) {
+                return UserImportRecord.malformed(current);
+            }
+            return new UserImportRecord(current,
+                    text(node, "username"),
+                    raw(node, "password"),
+                    raw(node, "passwordHash"),
+                    text(node, "email"),
+                    text(node, "role"));
+        }
+
+        private static String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() || value.asText().isBlank() ? null : value.asText().trim();
+        }
+
+        private static String raw(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() || value.asText().isEmpty() ? null : value.asText();
+        }
+    }
+}
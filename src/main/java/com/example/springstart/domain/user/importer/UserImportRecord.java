@@ -0,0 +1,19 @@
+package com.example.springstart.domain.user.importer;
+
+/**
+ * 가져오기 입력의 레코드 한 건
+ *
+ * @param line         입력 내 순번 (헤더 제외, 1부터 시작) - 체크포인트/재시작 기준
+ * @param username     사용자 이름
+ * @param password     평문 비밀번호 (passwordHash가 있으면 무시)
+ * @param passwordHash 이미 BCrypt로 해시된 비밀번호 (있으면 그대로 저장)
+ * @param email        이메일
+ * @param role         역할 (비어 있으면 USER)
+ */
+public record UserImportRecord(long line, String username, String password, String passwordHash,
+                               String email, String role) {
+
+    static UserImportRecord malformed(long line) {
+        return new UserImportRecord(line, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.springstart.domain.user.importer;
+
+import lombok.Value;
+
+/**
+ * 가져오기 진행 상황 / 결과
+ * - lastLine: 커밋까지 끝난 마지막 레코드 순번. 중단된 경우 이 값을 skip으로 넘기면 이어서 진행한다.
+ */
+@Value
+public class UserImportResult {
+    long read;
+    long imported;
+    long duplicates;
+    long invalid;
+    long lastLine;
+    long elapsedMillis;
+    boolean completed;
+}
@@ -0,0 +1,48 @@
+package com.example.springstart.domain.user.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 명령행 가져오기
+ * - springboot.import.file이 지정된 경우에만 동작하고, 끝나면 애플리케이션을 종료한다.
+ * - 체크포인트는 입력 파일 옆의 <파일>.checkpoint 에 남으므로, 같은 명령을 다시 실행하면 이어서 진행한다.
+ *
+ * <pre>
+ * java -jar app.jar --spring.main.web-application-type=none --springboot.import.file=users.csv
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "springboot.import.file")
+public class UserImportRunner implements ApplicationRunner {
+
+    private final UserImportService userImportService;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${springboot.import.file}")
+    private Path file;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path checkpoint = file.resolveSibling(file.getFileName() + ".checkpoint");
+        UserImportResult result;
+        try (InputStream in = Files.newInputStream(file)) {
+            result = userImportService.importUsers(in, UserImportFormat.fromFileName(file.toString()), 0L, checkpoint);
+        }
+        log.info("{} 가져오기 완료: {}", file, result);
+        SpringApplication.exit(applicationContext, () -> 0);
+    }
+}
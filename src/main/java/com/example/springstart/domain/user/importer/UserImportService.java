@@ -0,0 +1,283 @@
+package com.example.springstart.domain.user.importer;
+
+import com.example.springstart.domain.common.id.SnowflakeIds;
+import com.example.springstart.domain.user.entity.UserRoleType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * 대량 사용자 가져오기 (기존 시스템 계정 이관용)
+ * - 입력을 batch-size 단위로 읽어 검증 → 중복 제거 → BCrypt 해시(코어 수만큼 병렬) → JDBC 배치 INSERT 순으로 처리한다.
+ * - 이미 BCrypt로 해시된 값(passwordHash)은 다시 해시하지 않는다.
+ * - 중복은 이번 입력 안에서는 로컬 Set으로, 이미 가입된 사용자는 batch마다 `username in (...)` 조회 한 번으로 거른다.
+ * - ID는 엔티티와 같은 Snowflake 생성기에서 받아 INSERT 배치에 함께 넣는다.
+ * - batch마다 커밋 후 체크포인트(마지막 레코드 순번)를 남기므로, 중단되면 그 다음 레코드부터 다시 시작할 수 있다.
+ * - 한 번에 하나의 가져오기만 실행한다.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO User (id, username, password, email, role, Banned, passwordErrorCount, createdAt, updatedAt)"
+            + " VALUES (?, ?, ?, ?, ?, FALSE, 0, ?, ?)";
+    private static final Pattern BCRYPT = Pattern.compile("^\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final int batchSize;
+    private final int hashThreads;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Progress progress;
+
+    public UserImportService(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             PasswordEncoder passwordEncoder,
+                             @Value("${springboot.import.batch-size:1000}") int batchSize,
+                             @Value("${springboot.import.hash-threads:0}") int hashThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.batchSize = batchSize;
+        this.hashThreads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 입력 스트림에서 사용자를 가져오는 메서드
+     *
+     * @param in         CSV 또는 NDJSON 입력
+     * @param format     입력 형식
+     * @param skip       이 순번까지의 레코드는 건너뜀 (이전 실행의 lastLine)
+     * @param checkpoint 체크포인트 파일 (null이면 사용하지 않음). 파일이 있으면 skip보다 우선한다.
+     * @return 가져오기 결과
+     */
+    public UserImportResult importUsers(InputStream in, UserImportFormat format, long skip, Path checkpoint) throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 가져오기가 진행 중입니다");
+        }
+        ForkJoinPool hashPool = new ForkJoinPool(hashThreads);
+        try (UserImportReader reader = UserImportReader.of(in, format)) {
+            long resumeAfter = Math.max(skip, readCheckpoint(checkpoint));
+            Progress current = new Progress(resumeAfter);
+            progress = current;
+            if (resumeAfter > 0) {
+                log.info("가져오기 재시작: {}번째 레코드 이후부터", resumeAfter);
+            }
+
+            Set<String> seen = new HashSet<>();
+            List<UserImportRecord> batch = new ArrayList<>(batchSize);
+            long batchLastLine = resumeAfter;
+            UserImportRecord record;
+            while ((record = reader.next()) != null) {
+                if (record.line() <= resumeAfter) {
+                    continue;
+                }
+                current.read++;
+                batchLastLine = record.line();
+                if (!isValid(record)) {
+                    current.invalid++;
+                } else if (!seen.add(record.username())) {
+                    current.duplicates++;
+                } else {
+                    batch.add(record);
+                }
+                if (batch.size() == batchSize) {
+                    flush(batch, batchLastLine, current, hashPool, checkpoint);
+                }
+            }
+            flush(batch, batchLastLine, current, hashPool, checkpoint);
+            current.completed = true;
+
+            UserImportResult result = current.snapshot();
+            log.info("가져오기 완료: 읽음 {}, 저장 {}, 중복 {}, 오류 {} ({} ms)",
+                    result.getRead(), result.getImported(), result.getDuplicates(), result.getInvalid(), result.getElapsedMillis());
+            return result;
+        } finally {
+            hashPool.shutdown();
+            running.set(false);
+        }
+    }
+
+    /**
+     * 현재(또는 마지막) 가져오기의 진행 상황
+     *
+     * @return 진행 상황, 실행된 적이 없으면 null
+     */
+    public UserImportResult progress() {
+        Progress current = progress;
+        return current == null ? null : current.snapshot();
+    }
+
+    private void flush(List<UserImportRecord> batch, long lastLine, Progress current,
+                       ForkJoinPool hashPool, Path checkpoint) throws IOException {
+        if (!batch.isEmpty()) {
+            List<UserImportRecord> fresh = excludeExisting(batch);
+            current.duplicates += batch.size() - fresh.size();
+
+            List<String> hashes = hash(fresh, hashPool);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            UserImportRecord record = fresh.get(i);
+                            ps.setLong(1, SnowflakeIds.next());
+                            ps.setString(2, record.username());
+                            ps.setString(3, hashes.get(i));
+                            ps.setString(4, record.email());
+                            ps.setString(5, roleOf(record).name());
+                            ps.setTimestamp(6, now);
+                            ps.setTimestamp(7, now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return fresh.size();
+                        }
+                    }));
+            current.imported += fresh.size();
+            batch.clear();
+        }
+        current.lastLine = lastLine;
+        writeCheckpoint(checkpoint, lastLine);
+        log.info("가져오기 진행: 읽음 {}, 저장 {}, 중복 {}, 오류 {}, {}건/s",
+                current.read, current.imported, current.duplicates, current.invalid, current.ratePerSecond());
+    }
+
+    private List<UserImportRecord> excludeExisting(List<UserImportRecord> batch) {
+        List<String> usernames = batch.stream().map(UserImportRecord::username).toList();
+        Set<String> existing = new HashSet<>(namedJdbcTemplate.queryForList(
+                "SELECT username FROM User WHERE username IN (:usernames)",
+                new MapSqlParameterSource("usernames", usernames), String.class));
+        if (existing.isEmpty()) {
+            return new ArrayList<>(batch);
+        }
+        return batch.stream().filter(record -> !existing.contains(record.username())).toList();
+    }
+
+    private List<String> hash(List<UserImportRecord> records, ForkJoinPool hashPool) {
+        try {
+            return hashPool.submit(() -> records.parallelStream()
+                    .map(record -> record.passwordHash() != null
+                            ? record.passwordHash()
+                            : passwordEncoder.encode(record.password()))
+                    .toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+        }
+    }
+
+    /**
+     * 회원가입(JoinRequestDto)과 같은 기준으로 검증한다. 해시된 비밀번호는 BCrypt 형식인지만 확인한다.
+     */
+    private static boolean isValid(UserImportRecord record) {
+        String username = record.username();
+        if (username == null || username.length() < 2 || username.length() > 20) {
+            return false;
+        }
+        if (record.email() == null || record.email().indexOf('@') <= 0) {
+            return false;
+        }
+        if (record.role() != null && !isRole(record.role())) {
+            return false;
+        }
+        if (record.passwordHash() != null) {
+            return BCRYPT.matcher(record.passwordHash()).matches();
+        }
+        String password = record.password();
+        return password != null && password.length() >= 2 && password.length() <= 20;
+    }
+
+    private static boolean isRole(String role) {
+        for (UserRoleType type : UserRoleType.values()) {
+            if (type.name().equals(role)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static UserRoleType roleOf(UserImportRecord record) {
+        return record.role() == null ? UserRoleType.USER : UserRoleType.valueOf(record.role());
+    }
+
+    private static long readCheckpoint(Path checkpoint) throws IOException {
+        if (checkpoint == null || !Files.exists(checkpoint)) {
+            return 0L;
+        }
+        return Long.parseLong(Files.readString(checkpoint, StandardCharsets.UTF_8).trim());
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체하므로, 쓰는 도중 중단되어도 체크포인트가 깨지지 않는다.
+     */
+    private static void writeCheckpoint(Path checkpoint, long lastLine) throws IOException {
+        if (checkpoint == null) {
+            return;
+        }
+        Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        Files.writeString(temp, Long.toString(lastLine), StandardCharsets.UTF_8);
+        Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 가져오기 스레드만 값을 바꾸고, 진행 상황 조회는 snapshot으로 읽는다.
+     */
+    private static final class Progress {
+        private final long startedAt = System.nanoTime();
+        private volatile long read;
+        private volatile long imported;
+        private volatile long duplicates;
+        private volatile long invalid;
+        private volatile long lastLine;
+        private volatile boolean completed;
+
+        private Progress(long lastLine) {
+            this.lastLine = lastLine;
+        }
+
+        private long elapsedMillis() {
+            return (System.nanoTime() - startedAt) / 1_000_000L;
+        }
+
+        private long ratePerSecond() {
+            return imported * 1000L / Math.max(1L, elapsedMillis());
+        }
+
+        private UserImportResult snapshot() {
+            return new UserImportResult(read, imported, duplicates, invalid, lastLine, elapsedMillis(), completed);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.springstart.domain.user.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 블랙리스트(로그아웃된 액세스 토큰)의 로컬 복제본
+ * - 로그아웃 시 RedisTokenStore가 블랙리스트 채널로 "만료시각:jti"를 발행하고, 모든 인스턴스가 구독해 이 맵에 반영한다.
+ * - Redis 서킷이 열려 있거나 명령이 실패하면 RedisTokenStore가 이 스냅샷으로 블랙리스트 여부를 판단한다.
+ * - 구독이 끊긴 동안 발행된 항목은 빠질 수 있다. (pub/sub은 최대 한 번 전달) 빠진 토큰도 액세스 토큰 만료 시각이 지나면 무효다.
+ * - 항목은 토큰 만료 시각까지만 유지하고, 최대 개수를 넘으면 새 항목은 버린다. (메모리 상한)
+ */
+@Slf4j
+@Component
+public class BlacklistSnapshot implements MessageListener {
+
+    private final Map<String, Long> expiresAtByJti = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public BlacklistSnapshot(@Value("${springboot.redis.blacklist-snapshot.max-entries:100000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 블랙리스트 항목을 추가하는 메서드
+     *
+     * @param jti       액세스 토큰의 JWT ID
+     * @param expiresAt 항목 만료 시각 (epoch ms)
+     */
+    public void add(String jti, long expiresAt) {
+        if (expiresAtByJti.size() >= maxEntries && !expiresAtByJti.containsKey(jti)) {
+            purgeExpired();
+            if (expiresAtByJti.size() >= maxEntries) {
+                log.warn("블랙리스트 스냅샷이 가득 차 항목을 버립니다: max-entries={}", maxEntries);
+                return;
+            }
+        }
+        expiresAtByJti.merge(jti, expiresAt, Math::max);
+    }
+
+    /**
+     * 아직 만료되지 않은 블랙리스트 항목인지 확인하는 메서드
+     *
+     * @param jti 액세스 토큰의 JWT ID
+     * @return 스냅샷에 있고 만료 전이면 true
+     */
+    public boolean contains(String jti) {
+        Long expiresAt = expiresAtByJti.get(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    public int size() {
+        return expiresAtByJti.size();
+    }
+
+    /**
+     * 블랙리스트 채널 메시지 수신 ("만료시각:jti")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator <= 0) {
+            log.debug("잘못된 블랙리스트 메시지: {}", body);
+            return;
+        }
+        try {
+            add(body.substring(separator + 1), Long.parseLong(body, 0, separator, 10));
+        } catch (NumberFormatException e) {
+            log.debug("잘못된 블랙리스트 메시지: {}", body);
+        }
+    }
+
+    static String message(String jti, long expiresAt) {
+        return expiresAt + ":" + jti;
+    }
+
+    @Scheduled(fixedDelayString = "${springboot.redis.blacklist-snapshot.purge-interval-ms:30000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        expiresAtByJti.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+}
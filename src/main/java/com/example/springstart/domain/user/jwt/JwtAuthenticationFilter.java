@@ -1,7 +1,9 @@
 package com.example.springstart.domain.user.jwt;
 
-import com.example.springstart.domain.user.dto.CustomUserDetails;
-import com.example.springstart.domain.user.repository.UserRepository;
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,73 +12,103 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * JWT 인증 필터
- * 모든 요청에서 실행되며, JWT 토큰을 검사하여 유효한 경우 SecurityContext에 인증 정보를 저장한다.
+ * 공개 경로(PublicPaths)를 제외한 요청에서 실행되며, JWT 토큰을 검사하여 유효한 경우 SecurityContext에 인증 정보를 저장한다.
+ * - 밴/잠금된 사용자는 토큰이 유효해도 인증하지 않는다. 요청마다 DB 상태를 읽으므로 밴은 토큰 만료를 기다리지 않고 바로 적용된다.
+ *   거절 사유는 요청 속성(ACCOUNT_STATUS_ATTRIBUTE)에 남겨 엔트리 포인트가 USER_BANNED / ACCOUNT_LOCKED로 응답한다.
  */
 @Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * 밴/잠금 때문에 인증하지 않은 경우의 사유 (ExceptionMessage)
+     */
+    public static final String ACCOUNT_STATUS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".ACCOUNT_STATUS";
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * 공개 경로는 토큰 파싱, Redis 블랙리스트 조회, 사용자 조회를 모두 건너뛴다.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicPaths.matches(request);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        // 인증 처리 구간만 auth.filter 관측(span + timer)으로 기록 (다음 필터/컨트롤러 실행 시간은 제외)
+        Observation.createNotStarted("auth.filter", observationRegistry)
+                .contextualName("jwt-authentication")
+                .observe(() -> authenticate(request));
+
+        // 6. 다음 필터로 요청을 전달
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 요청의 액세스 토큰을 검증하고, 유효하면 SecurityContext에 인증 정보를 저장하는 메서드
+     *
+     * @param request HTTP 요청
+     */
+    private void authenticate(HttpServletRequest request) {
         // 1. 요청 헤더에서 "Authorization" 값을 추출하여 Optional<String>에 저장
         Optional<String> optionalToken = jwtTokenProvider.resolveToken(request.getHeader("Authorization"));
 
         // 2. 토큰이 존재하면, 아래 조건들을 만족하는지 확인
         //    조건을 만족하면, jwtTokenProvider의 getAuthentication 메서드를 사용
         //    Authentication 객체를 생성하고 이를 Optional<Authentication>으로 반환
-        Optional<Authentication> authOpt = optionalToken
-                .filter(this::isUsableAccessToken)  // 토큰 유효성 검사: 조건이 false이면 Optional.empty()
-                .map(jwtTokenProvider::getAuthentication);  // 토큰이 유효하면 Authentication 객체로 매핑
+        //    만료/위조 토큰(JwtException)이나 삭제된 사용자는 인증 없이 진행하고, 보호 경로라면 엔트리 포인트가 401을 응답한다
+        Optional<Authentication> authOpt;
+        try {
+            authOpt = optionalToken
+                    .filter(this::isUsableAccessToken)  // 토큰 유효성 검사: 조건이 false이면 Optional.empty()
+                    .map(jwtTokenProvider::getAuthentication);  // 토큰이 유효하면 Authentication 객체로 매핑
+        } catch (JwtException | UsernameNotFoundException e) {
+            log.debug("인증 실패: {}", e.getClass().getSimpleName());
+            return;
+        }
 
-        // 3. 인증 정보(Authentication 객체)가 존재하면, SecurityContextHolder에 설정
+        // 3. 인증 정보(Authentication 객체)가 존재하고 사용할 수 있는 계정이면, SecurityContextHolder에 설정
         //    이렇게 하면 이후 요청에서 스프링 시큐리티가 인증된 사용자로 인식
         authOpt.ifPresent(authentication -> {
+            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+
+            // 4. 밴/잠금된 사용자는 인증하지 않는다 (보호 경로라면 엔트리 포인트가 사유에 맞는 에러로 응답)
+            ExceptionMessage rejected = accountStatus(userDetails);
+            if (rejected != null) {
+                log.debug("인증 거절 ({}): {}", rejected, userDetails.getUsername());
+                request.setAttribute(ACCOUNT_STATUS_ATTRIBUTE, rejected);
+                return;
+            }
+
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            // CustomUserDetails는 사용자의 상세 정보를 담은 객체
-            CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-            log.info("✅ 사용자 인증 완료: {}", userDetails);
+            log.debug("사용자 인증 완료: {}", userDetails);
         });
+    }
 
-        // 4. Optional을 이용하여 CustomUserDetails 객체를 추출
-        //    만약 authOpt가 empty면, null이 반환
-        CustomUserDetails auth = authOpt
-                .map(authentication -> (CustomUserDetails) authentication.getPrincipal())
-                .orElse(null);
-
-        // 5. 만약 인증된 사용자가 존재한다면 추가 로직(예: 차단 여부 확인)을 수
-        if (auth != null) {
-            System.out.println("auth = " + auth);
-
-            // isEnabled()는 CustomUserDetails에서 구현된 메서드로,
-            // 사용자의 차단 여부에 따라 false를 반환
-            if (!auth.isEnabled()) {
-                log.info("밴 당한 사용자 입니다");
-                // 여기서 추가 처리가 가능: 예를 들어, 응답에 403 Forbidden을 반환하거나 추가 로깅 수행
-            }
-
-            if (!auth.isAccountNonLocked()) {
-                log.info("임시 정지 조치된 사용자 입니다.");
-            }
+    private static ExceptionMessage accountStatus(UserDetails userDetails) {
+        if (!userDetails.isEnabled()) {
+            return ExceptionMessage.USER_BANNED;
         }
-
-        // 6. 다음 필터로 요청을 전달
-        filterChain.doFilter(request, response);
+        if (!userDetails.isAccountNonLocked()) {
+            return ExceptionMessage.ACCOUNT_LOCKED;
+        }
+        return null;
     }
 
-
     /**
      * 액세스 토큰이 유효한지 확인하는 메서드
      * - 토큰이 존재하고
@@ -88,13 +120,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * @return 유효한 액세스 토큰이면 true, 그렇지 않으면 false
      */
     private boolean isUsableAccessToken(String token) {
-        log.info("JWT Authentication Filter - isUsableAccessToken");
         boolean isValid = jwtTokenProvider.validateToken(token)
                 && !jwtTokenProvider.isBlacklisted(token)
                 && jwtTokenProvider.hasRole(token);
 
         if (!isValid) {
-            log.warn("⚠️ 사용 불가능한 토큰 감지: {}", token);
+            log.debug("사용 불가능한 토큰 감지");
         }
 
         return isValid;
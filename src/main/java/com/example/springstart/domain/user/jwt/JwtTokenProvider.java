@@ -1,10 +1,11 @@
 package com.example.springstart.domain.user.jwt;
 
+import com.example.springstart.domain.common.id.SnowflakeIds;
+import com.example.springstart.domain.user.metrics.AuthMetrics;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,7 +19,6 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰을 생성, 검증, 관리하는 클래스
@@ -32,7 +32,8 @@ public class JwtTokenProvider {
 
     private final SecretKey secretKey;
     private final UserDetailsService userDetailsService;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTokenStore tokenStore;
+    private final AuthMetrics authMetrics;
 
     // 액세스 토큰 유효기간 (15분)
     private static final long ACCESS_TOKEN_EXP = 1000L * 60L * 15L;
@@ -45,12 +46,14 @@ public class JwtTokenProvider {
      *
      * @param secret            JWT 서명용 비밀키 (application.yml에서 설정)
      * @param userDetailsService 사용자 정보를 가져오는 서비스
-     * @param redisTemplate     Redis에 토큰을 저장/관리하기 위한 템플릿
+     * @param tokenStore        Redis에 리프레시 토큰/블랙리스트를 저장하는 저장소
+     * @param authMetrics       토큰 서명/파싱 시간 측정
      */
     public JwtTokenProvider(
             @Value("${springboot.jwt.secret}") String secret,
             UserDetailsService userDetailsService,
-            RedisTemplate<String, String> redisTemplate) {
+            RedisTokenStore tokenStore,
+            AuthMetrics authMetrics) {
 
         log.debug("Secret: {}", secret);
 
@@ -59,7 +62,8 @@ public class JwtTokenProvider {
                 Jwts.SIG.HS256.key().build().getAlgorithm()
         );
         this.userDetailsService = userDetailsService;
-        this.redisTemplate = redisTemplate;
+        this.tokenStore = tokenStore;
+        this.authMetrics = authMetrics;
     }
 
     // ========================= 🔹 토큰 생성 관련 메서드 =========================
@@ -76,7 +80,7 @@ public class JwtTokenProvider {
         claims.put("username", username);
         claims.put("role", role);
 
-        return createToken(claims, ACCESS_TOKEN_EXP);
+        return authMetrics.timeAccessTokenSign(() -> createToken(claims, ACCESS_TOKEN_EXP));
     }
 
     /**
@@ -87,10 +91,10 @@ public class JwtTokenProvider {
      */
     public String createRefreshToken(String username) {
         Map<String, String> claims = Map.of("username", username);
-        String refreshToken = createToken(claims, REFRESH_TOKEN_EXP);
+        String refreshToken = authMetrics.timeRefreshTokenSign(() -> createToken(claims, REFRESH_TOKEN_EXP));
 
         // 리프레시 토큰을 Redis에 저장 (유효기간을 설정하여 자동 만료 처리)
-        redisTemplate.opsForValue().set("refresh:" + username, refreshToken, REFRESH_TOKEN_EXP, TimeUnit.MILLISECONDS);
+        tokenStore.saveRefreshToken(username, refreshToken, REFRESH_TOKEN_EXP);
 
         return refreshToken;
     }
@@ -106,7 +110,7 @@ public class JwtTokenProvider {
         return Jwts.builder()
                 .header().add("typ", "JWT").and() // JWT 헤더에 typ 추가
                 .claims(claims) // 클레임 추가
-                .id(Long.toHexString(System.nanoTime())) // JWT ID (jti) 설정
+                .id(Long.toString(SnowflakeIds.next())) // JWT ID (jti) 설정 - Redis 블랙리스트에 8바이트로 저장된다
                 .issuedAt(new Date()) // 발급 시간 설정
                 .expiration(new Date(System.currentTimeMillis() + tokenExp)) // 만료 시간 설정
                 .signWith(secretKey) // 서명 생성
@@ -135,16 +139,6 @@ public class JwtTokenProvider {
         return getClaims(token).get("username").toString();
     }
 
-    /**
-     * JWT에서 JTI (JWT ID) 값을 추출하는 메서드
-     *
-     * @param token JWT 토큰
-     * @return JTI 값
-     */
-    private String getJti(String token) {
-        return getClaims(token).getId();
-    }
-
     /**
      * 토큰에 역할(Role)이 포함되어 있는지 확인하는 메서드
      *
@@ -162,11 +156,11 @@ public class JwtTokenProvider {
      * @return Claims 객체
      */
     private Claims getClaims(String token) {
-        return Jwts.parser()
+        return authMetrics.timeTokenParse(() -> Jwts.parser()
                 .verifyWith(secretKey)
                 .build()
                 .parseSignedClaims(token)
-                .getPayload();
+                .getPayload());
     }
 
     // ========================= 🔹 인증(Authentication) 관련 메서드 =========================
@@ -199,20 +193,24 @@ public class JwtTokenProvider {
 
     // ========================= 🔹 블랙리스트 및 토큰 관리 =========================
 
-    public void addBlacklist(String accessToken) {
-        redisTemplate.opsForValue().set("blacklist:" + getJti(accessToken), "true", ACCESS_TOKEN_EXP, TimeUnit.MILLISECONDS);
+    /**
+     * 액세스 토큰을 블랙리스트에 올리고 리프레시 토큰을 삭제하는 메서드 (로그아웃)
+     *
+     * @param accessToken 액세스 토큰
+     */
+    public void revoke(String accessToken) {
+        Claims claims = getClaims(accessToken);
+        tokenStore.revoke(claims.getId(), claims.getExpiration().getTime(), claims.get("username").toString());
     }
 
     public boolean isBlacklisted(String token) {
-        return redisTemplate.hasKey("blacklist:" + getJti(token));
-    }
-
-    public void deleteRefreshToken(String accessToken) {
-        redisTemplate.delete("refresh:" + getUserName(accessToken));
+        Claims claims = getClaims(token);
+        return tokenStore.isBlacklisted(claims.getId(), claims.getExpiration().getTime());
     }
 
     public boolean isValidRefreshToken(String refreshToken) {
-        String storedRefreshToken = redisTemplate.opsForValue().get("refresh:" + getUserName(refreshToken));
-        return storedRefreshToken != null && storedRefreshToken.equals(refreshToken);
+        boolean valid = tokenStore.matchesRefreshToken(getUserName(refreshToken), refreshToken);
+        authMetrics.recordRefreshLookup(valid);
+        return valid;
     }
-}
\ No newline at end of file
+}
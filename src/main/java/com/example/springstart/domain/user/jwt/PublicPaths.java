@@ -0,0 +1,84 @@
+package com.example.springstart.domain.user.jwt;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Set;
+
+/**
+ * JWT 인증이 필요 없는 공개 경로 목록
+ * - SecurityConfig의 permitAll 매처와 JwtAuthenticationFilter의 shouldNotFilter가 같은 목록을 사용한다.
+ * - 요청마다 패턴 매칭을 돌리지 않도록 정확히 일치하는 경로는 Set, 문서 경로는 고정된 prefix 몇 개로만 판단한다.
+ */
+public final class PublicPaths {
+
+    /**
+     * 토큰 없이 호출되거나, 필터가 아닌 서비스에서 직접 토큰을 검증하는 인증 API
+     */
+    public static final String[] AUTH = {
+            "/join",
+            "/login",
+            "/logout",
+            "/refresh"
+    };
+
+    /**
+     * Swagger / springdoc 문서, Actuator health 경로 (별도의 SecurityFilterChain에서 처리)
+     * - /actuator/prometheus는 지연 분포, 로그인 결과, 풀 상태가 노출되므로 여기에 두지 않고 ADMIN 권한을 요구한다.
+     */
+    public static final String[] INFRA = {
+            "/swagger-ui.html",
+            "/swagger-ui/**",
+            "/v3/api-docs/**",
+            "/api-docs/**",
+            "/swagger-resources/**",
+            "/actuator/health/**"
+    };
+
+    private static final Set<String> EXACT = Set.of(
+            "/join", "/login", "/logout", "/refresh",
+            "/swagger-ui.html", "/v3/api-docs", "/api-docs",
+            "/actuator/health"
+    );
+
+    private static final String[] PREFIXES = {
+            "/swagger-ui/",
+            "/v3/api-docs/",
+            "/api-docs/",
+            "/swagger-resources",
+            "/actuator/health/"
+    };
+
+    private PublicPaths() {
+    }
+
+    /**
+     * 요청이 공개 경로인지 확인하는 메서드
+     *
+     * @param request HTTP 요청
+     * @return 공개 경로이면 true
+     */
+    public static boolean matches(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        String path = contextPath.isEmpty() ? uri : uri.substring(contextPath.length());
+        return matches(path);
+    }
+
+    /**
+     * 경로 문자열이 공개 경로인지 확인하는 메서드
+     *
+     * @param path 컨텍스트 경로를 제외한 요청 경로
+     * @return 공개 경로이면 true
+     */
+    public static boolean matches(String path) {
+        if (EXACT.contains(path)) {
+            return true;
+        }
+        for (String prefix : PREFIXES) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
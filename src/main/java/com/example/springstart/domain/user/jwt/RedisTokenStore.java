@@ -0,0 +1,249 @@
+package com.example.springstart.domain.user.jwt;
+
+import com.example.springstart.domain.common.exception.ApiException;
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import com.example.springstart.domain.user.metrics.AuthMetrics;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 리프레시 토큰과 액세스 토큰 블랙리스트를 Redis에 저장/조회하는 클래스
+ * - 쓰기는 마스터로, 요청마다 호출되는 조회(블랙리스트, 리프레시 토큰)는 복제본 우선 템플릿으로 보낸다.
+ *   복제 지연 동안에는 방금 로그아웃한 토큰이 최대 수 ms 동안 통과할 수 있다.
+ * - 로그아웃은 블랙리스트 등록, 리프레시 토큰 삭제, 블랙리스트 채널 발행을 파이프라인 한 번으로 보낸다.
+ *   cluster 모드에서는 키들이 다른 슬롯일 수 있으므로 MULTI 대신 파이프라인을 사용한다.
+ * - 모든 Redis 호출은 서킷 브레이커(redisCircuitBreaker)를 거친다. 명령 타임아웃은 RedisConfig에서 설정한다.
+ *   Redis가 느리거나 끊기면 서킷이 열리고, 이후 호출은 Redis를 기다리지 않고 바로 실패 처리된다.
+ * - Redis를 쓸 수 없을 때
+ *   - 블랙리스트 조회: 로컬 스냅샷(BlacklistSnapshot)에 있으면 차단, 없으면 failure-policy에 따른다.
+ *     (open: 통과, closed: 차단)
+ *   - 리프레시 토큰 저장/검증, 로그아웃: 503 (TOKEN_STORE_UNAVAILABLE). 로그아웃한 토큰은 이 인스턴스의 스냅샷에는 남긴다.
+ *
+ * <p>키 구조 (키 하나마다 붙는 Redis 오버헤드를 줄이기 위해 키 수와 값 크기를 최소화한다)
+ * <pre>
+ * bl:&lt;만료 버킷&gt;   SET    멤버 = jti 8바이트(big-endian), 버킷이 끝나면 키째로 만료 (PEXPIREAT)
+ * rt:&lt;username&gt;    STRING 리프레시 토큰의 SHA-256 (32바이트), 토큰 유효기간만큼 유지
+ * </pre>
+ * - 만료 버킷 = 액세스 토큰 만료 시각 / bucket-seconds. 조회도 토큰의 exp로 버킷을 계산하므로 토큰 하나에 SISMEMBER 한 번이다.
+ *   버킷 키는 버킷 끝 + 버킷 하나(서버 간 시계 차이 여유)에 만료된다. 그때는 버킷 안의 토큰이 모두 만료된 뒤다.
+ * - jti가 Snowflake ID(10진수)가 아니면(이전 버전이 발급한 토큰) UTF-8 문자열을 그대로 멤버로 쓴다.
+ * - 이전 구조(blacklist:&lt;jti&gt; = "true", refresh:&lt;username&gt; = 토큰 원문)는 legacy-layout-fallback이 켜져 있으면
+ *   조회 시 함께 확인한다. 배포 후 리프레시 토큰 유효기간(1일)이 지나면 이전 키가 모두 만료되므로 끈다.
+ * - 구조별 세션당 메모리 비교: scripts/redis-memory-report.sh
+ */
+@Slf4j
+@Component
+public class RedisTokenStore {
+
+    /**
+     * Redis를 쓸 수 없고 로컬 스냅샷에도 없는 토큰의 블랙리스트 판정
+     */
+    public enum FailurePolicy {
+        // 블랙리스트가 아닌 것으로 본다 (가용성 우선, 로그아웃한 토큰이 만료 전까지 통과할 수 있음)
+        OPEN,
+        // 블랙리스트인 것으로 본다 (보안 우선, Redis 장애 동안 모든 인증 요청이 401)
+        CLOSED;
+
+        public static FailurePolicy from(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    static final String BLACKLIST_PREFIX = "bl:";
+    static final String REFRESH_PREFIX = "rt:";
+    static final String LEGACY_BLACKLIST_PREFIX = "blacklist:";
+    static final String LEGACY_REFRESH_PREFIX = "refresh:";
+    public static final String BLACKLIST_CHANNEL = "auth:blacklist";
+
+    private final StringRedisTemplate redisTemplate;
+    private final StringRedisTemplate replicaTemplate;
+    private final AuthMetrics authMetrics;
+    private final CircuitBreaker circuitBreaker;
+    private final BlacklistSnapshot snapshot;
+    private final FailurePolicy failurePolicy;
+    private final long bucketMillis;
+    private final boolean legacyFallback;
+
+    public RedisTokenStore(StringRedisTemplate redisTemplate,
+                           @Qualifier("replicaPreferredRedisTemplate") StringRedisTemplate replicaTemplate,
+                           AuthMetrics authMetrics,
+                           @Qualifier("redisCircuitBreaker") CircuitBreaker circuitBreaker,
+                           BlacklistSnapshot snapshot,
+                           @Value("${springboot.redis.failure-policy:open}") String failurePolicy,
+                           @Value("${springboot.redis.blacklist.bucket-seconds:60}") long bucketSeconds,
+                           @Value("${springboot.redis.legacy-layout-fallback:true}") boolean legacyFallback) {
+        if (bucketSeconds <= 0) {
+            throw new IllegalArgumentException("springboot.redis.blacklist.bucket-seconds는 1 이상이어야 합니다: " + bucketSeconds);
+        }
+        this.redisTemplate = redisTemplate;
+        this.replicaTemplate = replicaTemplate;
+        this.authMetrics = authMetrics;
+        this.circuitBreaker = circuitBreaker;
+        this.snapshot = snapshot;
+        this.failurePolicy = FailurePolicy.from(failurePolicy);
+        this.bucketMillis = TimeUnit.SECONDS.toMillis(bucketSeconds);
+        this.legacyFallback = legacyFallback;
+    }
+
+    /**
+     * 리프레시 토큰의 해시를 저장하는 메서드 (사용자당 하나, 유효기간이 지나면 자동 만료)
+     *
+     * @param username     사용자 이름
+     * @param refreshToken 리프레시 토큰
+     * @param ttlMillis    유효기간 (ms)
+     */
+    public void saveRefreshToken(String username, String refreshToken, long ttlMillis) {
+        byte[] digest = digest(refreshToken);
+        callOrUnavailable(() -> {
+            authMetrics.timeRedisRefreshSave(() -> redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.stringCommands().pSetEx(refreshKey(username), ttlMillis, digest)));
+            return null;
+        });
+    }
+
+    /**
+     * 리프레시 토큰이 사용자의 현재 리프레시 토큰인지 확인하는 메서드 (복제본 우선)
+     *
+     * @param username     사용자 이름
+     * @param refreshToken 확인할 리프레시 토큰
+     * @return 저장된 해시와 같으면 true, 저장된 토큰이 없거나 다르면 false
+     */
+    public boolean matchesRefreshToken(String username, String refreshToken) {
+        byte[] digest = digest(refreshToken);
+        return callOrUnavailable(() -> authMetrics.timeRedisRefreshGet(() -> {
+            byte[] stored = replicaTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(refreshKey(username)));
+            if (stored != null) {
+                return MessageDigest.isEqual(stored, digest);
+            }
+            if (!legacyFallback) {
+                return false;
+            }
+            byte[] legacy = replicaTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(bytes(LEGACY_REFRESH_PREFIX + username)));
+            return legacy != null && MessageDigest.isEqual(legacy, bytes(refreshToken));
+        }));
+    }
+
+    /**
+     * 액세스 토큰이 블랙리스트에 있는지 확인하는 메서드 (로컬 스냅샷 → Redis 복제본 우선)
+     * - 요청마다 호출되므로 파이프라인(풀에서 전용 커넥션을 빌린다) 대신 공유 커넥션으로 단순 명령만 보낸다.
+     * - 이전 구조의 키(blacklist:&lt;jti&gt;)는 새 구조에서 찾지 못했을 때만 확인한다.
+     *   (두 키는 cluster 모드에서 슬롯이 다를 수 있어 Lua 하나로 묶지 않는다)
+     *
+     * @param jti       액세스 토큰의 JWT ID
+     * @param expiresAt 액세스 토큰 만료 시각 (epoch ms, 버킷 계산용)
+     * @return 블랙리스트에 있으면 true
+     */
+    public boolean isBlacklisted(String jti, long expiresAt) {
+        if (snapshot.contains(jti)) {
+            return true;
+        }
+        byte[] key = blacklistKey(expiresAt);
+        byte[] member = member(jti);
+        try {
+            return circuitBreaker.executeSupplier(() -> authMetrics.timeRedisBlacklistCheck(() -> {
+                Boolean listed = replicaTemplate.execute((RedisCallback<Boolean>) connection ->
+                        connection.setCommands().sIsMember(key, member));
+                if (Boolean.TRUE.equals(listed) || !legacyFallback) {
+                    return Boolean.TRUE.equals(listed);
+                }
+                Boolean legacy = replicaTemplate.execute((RedisCallback<Boolean>) connection ->
+                        connection.keyCommands().exists(bytes(LEGACY_BLACKLIST_PREFIX + jti)));
+                return Boolean.TRUE.equals(legacy);
+            }));
+        } catch (RuntimeException e) {
+            log.debug("블랙리스트 조회 실패, {} 정책 적용: {}", failurePolicy, e.toString());
+            authMetrics.recordBlacklistUnavailable();
+            return failurePolicy == FailurePolicy.CLOSED;
+        }
+    }
+
+    /**
+     * 액세스 토큰을 블랙리스트에 올리고 사용자의 리프레시 토큰을 삭제하는 메서드 (로그아웃)
+     *
+     * @param jti       액세스 토큰의 JWT ID
+     * @param expiresAt 액세스 토큰 만료 시각 (epoch ms, 이 시각까지 블랙리스트에 유지)
+     * @param username  사용자 이름
+     */
+    public void revoke(String jti, long expiresAt, String username) {
+        // Redis 장애로 실패해도 적어도 이 인스턴스에서는 바로 차단한다
+        snapshot.add(jti, expiresAt);
+        byte[] key = blacklistKey(expiresAt);
+        long keyExpiresAt = (expiresAt / bucketMillis + 2) * bucketMillis;
+        callOrUnavailable(() -> {
+            authMetrics.timeRedisRevoke(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.setCommands().sAdd(key, member(jti));
+                connection.keyCommands().pExpireAt(key, keyExpiresAt);
+                connection.keyCommands().del(refreshKey(username));
+                if (legacyFallback) {
+                    connection.keyCommands().del(bytes(LEGACY_REFRESH_PREFIX + username));
+                }
+                connection.publish(bytes(BLACKLIST_CHANNEL), bytes(BlacklistSnapshot.message(jti, expiresAt)));
+                return null;
+            }));
+            return null;
+        });
+    }
+
+    private byte[] blacklistKey(long expiresAt) {
+        return bytes(BLACKLIST_PREFIX + expiresAt / bucketMillis);
+    }
+
+    private static byte[] refreshKey(String username) {
+        return bytes(REFRESH_PREFIX + username);
+    }
+
+    /**
+     * 블랙리스트 SET 멤버: Snowflake jti는 8바이트 big-endian, 그 외는 UTF-8 문자열
+     * (Snowflake 값의 상위 바이트는 발급 시각이라 ASCII 문자열 8바이트와 겹치지 않는다)
+     */
+    static byte[] member(String jti) {
+        try {
+            long id = Long.parseLong(jti);
+            if (id >= 0 && Long.toString(id).equals(jti)) {
+                return ByteBuffer.allocate(Long.BYTES).putLong(id).array();
+            }
+        } catch (NumberFormatException e) {
+            // 이전 버전이 발급한 jti
+        }
+        return bytes(jti);
+    }
+
+    private static byte[] digest(String refreshToken) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes(refreshToken));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 Redis를 호출하고, 실패하면 503 예외로 바꾸는 메서드
+     */
+    private <T> T callOrUnavailable(Supplier<T> call) {
+        try {
+            return circuitBreaker.executeSupplier(call);
+        } catch (RuntimeException e) {
+            log.debug("Redis 호출 실패: {}", e.toString());
+            throw new ApiException(ExceptionMessage.TOKEN_STORE_UNAVAILABLE);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.springstart.domain.user.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 인증 경로 구간별 JFR 이벤트 (AuthMetrics가 Timer와 함께 기록)
+ * - JFR 녹화가 없으면 begin/commit은 활성 여부만 확인하고 끝나므로 평소 비용은 거의 없다.
+ * - 녹화 중에는 모든 호출이 이벤트로 남는다. (threshold 0, 스택 트레이스 없음)
+ *   관리자 API(/admin/profiling/jfr)나 jcmd JFR.start로 녹화한 파일을 JMC에서 "SpringStart / Auth" 분류로 본다.
+ */
+public final class AuthEvents {
+
+    private static final String PREFIX = "com.example.springstart.auth.";
+
+    private AuthEvents() {
+    }
+
+    @Name(PREFIX + "TokenParse")
+    @Label("Token Parse")
+    @Description("JWT 서명 검증 + 클레임 파싱")
+    @Category({"SpringStart", "Auth"})
+    @StackTrace(false)
+    static final class TokenParse extends Event {
+    }
+
+    @Name(PREFIX + "TokenSign")
+    @Label("Token Sign")
+    @Description("JWT 생성 + 서명")
+    @Category({"SpringStart", "Auth"})
+    @StackTrace(false)
+    static final class TokenSign extends Event {
+
+        @Label("Token Type")
+        String type;
+
+        TokenSign(String type) {
+            this.type = type;
+        }
+    }
+
+    @Name(PREFIX + "PasswordVerify")
+    @Label("Password Verify")
+    @Description("BCrypt 비밀번호 비교")
+    @Category({"SpringStart", "Auth"})
+    @StackTrace(false)
+    static final class PasswordVerify extends Event {
+    }
+
+    @Name(PREFIX + "Redis")
+    @Label("Redis Round Trip")
+    @Description("토큰 저장소 Redis 호출 (파이프라인은 한 번으로 기록)")
+    @Category({"SpringStart", "Auth"})
+    @StackTrace(false)
+    static final class Redis extends Event {
+
+        @Label("Operation")
+        String operation;
+
+        Redis(String operation) {
+            this.operation = operation;
+        }
+    }
+
+    @Name(PREFIX + "UserLookup")
+    @Label("User Lookup")
+    @Description("인증 주체 조회 (동시 조회 합치기 대기 포함)")
+    @Category({"SpringStart", "Auth"})
+    @StackTrace(false)
+    static final class UserLookup extends Event {
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.springstart.domain.user.metrics;
+
+import com.example.springstart.domain.common.concurrent.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.Event;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 인증 경로(토큰, BCrypt, Redis, 사용자 조회, 로그인 결과) 측정용 메트릭
+ * - 모든 Timer/Counter는 생성자에서 한 번만 등록하고, 요청마다 태그 조회나 Map 조회 없이 필드로 바로 기록한다.
+ * - Timer는 Prometheus 히스토그램 버킷을 함께 내보내므로 p50/p99를 서버 측에서 계산할 수 있다.
+ * - JWT 필터 구간(auth.filter)은 트레이싱과 함께 Observation으로 기록한다. (JwtAuthenticationFilter 참고)
+ * - 구간 측정은 같은 구간의 JFR 이벤트(AuthEvents)도 함께 남긴다. (JFR 녹화 중일 때만)
+ */
+@Component
+public class AuthMetrics {
+
+    /**
+     * 로그인 결과 (auth.login 카운터의 outcome 태그)
+     */
+    public enum LoginOutcome {
+        SUCCESS,
+        USER_NOT_FOUND,
+        BAD_PASSWORD,
+        BANNED,
+        LOCKED
+    }
+
+    private final Timer accessTokenSign;
+    private final Timer refreshTokenSign;
+    private final Timer tokenParse;
+    private final Timer passwordEncode;
+    private final Timer passwordMatch;
+    private final Timer userLookup;
+
+    private final Timer redisBlacklistCheck;
+    private final Timer redisRefreshSave;
+    private final Timer redisRefreshGet;
+    private final Timer redisRevoke;
+
+    private final Counter blacklistHit;
+    private final Counter blacklistMiss;
+    private final Counter blacklistUnavailable;
+    private final Counter refreshMatch;
+    private final Counter refreshMismatch;
+
+    private final Map<LoginOutcome, Counter> loginOutcomes = new EnumMap<>(LoginOutcome.class);
+    private final Map<SingleFlight.Outcome, Counter> userLookupOutcomes = new EnumMap<>(SingleFlight.Outcome.class);
+
+    public AuthMetrics(MeterRegistry registry) {
+        this.accessTokenSign = timer(registry, "auth.token.sign", "type", "access");
+        this.refreshTokenSign = timer(registry, "auth.token.sign", "type", "refresh");
+        this.tokenParse = timer(registry, "auth.token.parse");
+        this.passwordEncode = timer(registry, "auth.password.encode");
+        this.passwordMatch = timer(registry, "auth.password.match");
+        this.userLookup = timer(registry, "auth.user.lookup");
+
+        this.redisBlacklistCheck = timer(registry, "auth.redis", "op", "blacklist.check");
+        this.redisRefreshSave = timer(registry, "auth.redis", "op", "refresh.save");
+        this.redisRefreshGet = timer(registry, "auth.redis", "op", "refresh.get");
+        // 로그아웃: 블랙리스트 등록 + 리프레시 토큰 삭제 (파이프라인 1회)
+        this.redisRevoke = timer(registry, "auth.redis", "op", "revoke");
+
+        // 히트 비율 = hit / (hit + miss)
+        this.blacklistHit = counter(registry, "auth.blacklist.lookups", "result", "hit");
+        this.blacklistMiss = counter(registry, "auth.blacklist.lookups", "result", "miss");
+        // Redis 장애/서킷 열림으로 failure-policy에 따라 판정한 횟수
+        this.blacklistUnavailable = counter(registry, "auth.blacklist.lookups", "result", "unavailable");
+        this.refreshMatch = counter(registry, "auth.refresh.lookups", "result", "hit");
+        this.refreshMismatch = counter(registry, "auth.refresh.lookups", "result", "miss");
+
+        for (LoginOutcome outcome : LoginOutcome.values()) {
+            loginOutcomes.put(outcome, counter(registry, "auth.login", "outcome", outcome.name().toLowerCase()));
+        }
+        // 사용자 조회 합치기: DB 조회 수 = leader + timed_out, 절약한 조회 수 = shared
+        for (SingleFlight.Outcome outcome : SingleFlight.Outcome.values()) {
+            userLookupOutcomes.put(outcome, counter(registry, "auth.user.lookups", "result", outcome.name().toLowerCase()));
+        }
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String... tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(500))
+                .maximumExpectedValue(Duration.ofSeconds(5))
+                .register(registry);
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String... tags) {
+        return Counter.builder(name).tags(tags).register(registry);
+    }
+
+    // ========================= 🔹 구간 측정 =========================
+
+    public <T> T timeAccessTokenSign(Supplier<T> supplier) {
+        return record(accessTokenSign, new AuthEvents.TokenSign("access"), supplier);
+    }
+
+    public <T> T timeRefreshTokenSign(Supplier<T> supplier) {
+        return record(refreshTokenSign, new AuthEvents.TokenSign("refresh"), supplier);
+    }
+
+    public <T> T timeTokenParse(Supplier<T> supplier) {
+        return record(tokenParse, new AuthEvents.TokenParse(), supplier);
+    }
+
+    public <T> T timePasswordEncode(Supplier<T> supplier) {
+        return passwordEncode.record(supplier);
+    }
+
+    public <T> T timePasswordMatch(Supplier<T> supplier) {
+        return record(passwordMatch, new AuthEvents.PasswordVerify(), supplier);
+    }
+
+    public <T> T timeUserLookup(Supplier<T> supplier) {
+        return record(userLookup, new AuthEvents.UserLookup(), supplier);
+    }
+
+    public boolean timeRedisBlacklistCheck(Supplier<Boolean> supplier) {
+        boolean blacklisted = Boolean.TRUE.equals(record(redisBlacklistCheck, new AuthEvents.Redis("blacklist.check"), supplier));
+        (blacklisted ? blacklistHit : blacklistMiss).increment();
+        return blacklisted;
+    }
+
+    public void timeRedisRefreshSave(Runnable runnable) {
+        record(redisRefreshSave, new AuthEvents.Redis("refresh.save"), runnable);
+    }
+
+    public <T> T timeRedisRefreshGet(Supplier<T> supplier) {
+        return record(redisRefreshGet, new AuthEvents.Redis("refresh.get"), supplier);
+    }
+
+    public void timeRedisRevoke(Runnable runnable) {
+        record(redisRevoke, new AuthEvents.Redis("revoke"), runnable);
+    }
+
+    /**
+     * Timer와 JFR 이벤트를 함께 기록하는 메서드 (JFR 녹화가 없으면 이벤트는 기록하지 않는다)
+     */
+    private static <T> T record(Timer timer, Event event, Supplier<T> supplier) {
+        event.begin();
+        try {
+            return timer.record(supplier);
+        } finally {
+            event.commit();
+        }
+    }
+
+    private static void record(Timer timer, Event event, Runnable runnable) {
+        event.begin();
+        try {
+            timer.record(runnable);
+        } finally {
+            event.commit();
+        }
+    }
+
+    // ========================= 🔹 결과 카운터 =========================
+
+    public void recordRefreshLookup(boolean matched) {
+        (matched ? refreshMatch : refreshMismatch).increment();
+    }
+
+    public void recordBlacklistUnavailable() {
+        blacklistUnavailable.increment();
+    }
+
+    public void recordLogin(LoginOutcome outcome) {
+        loginOutcomes.get(outcome).increment();
+    }
+
+    public void recordUserLookup(SingleFlight.Outcome outcome) {
+        userLookupOutcomes.get(outcome).increment();
+    }
+}
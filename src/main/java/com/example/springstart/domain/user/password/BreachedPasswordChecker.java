@@ -0,0 +1,51 @@
+package com.example.springstart.domain.user.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 유출 비밀번호 검사 (회원가입, 비밀번호 변경)
+ * - 외부 API를 부르지 않고 로컬 색인 파일(BreachedPasswordIndex)에서 비밀번호의 SHA-1을 찾는다.
+ * - springboot.password.breached-index가 비어 있으면 검사하지 않는다. 경로를 지정했는데 파일이 없거나 잘못되었으면 기동에 실패한다.
+ */
+@Slf4j
+@Component
+public class BreachedPasswordChecker {
+
+    private final BreachedPasswordIndex index;
+
+    public BreachedPasswordChecker(@Value("${springboot.password.breached-index:}") String indexFile) throws IOException {
+        if (indexFile.isBlank()) {
+            this.index = null;
+            log.info("유출 비밀번호 색인이 설정되지 않아 검사하지 않습니다.");
+            return;
+        }
+        this.index = BreachedPasswordIndex.open(Path.of(indexFile));
+        log.info("유출 비밀번호 색인을 열었습니다: {} ({}건)", indexFile, index.size());
+    }
+
+    /**
+     * 유출 목록에 있는 비밀번호인지 확인하는 메서드
+     *
+     * @param password 평문 비밀번호
+     * @return 색인이 있고 목록에 있으면 true
+     */
+    public boolean isBreached(String password) {
+        return index != null && index.contains(sha1(password));
+    }
+
+    private static byte[] sha1(String password) {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(password.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
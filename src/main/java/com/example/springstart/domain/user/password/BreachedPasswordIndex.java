@@ -0,0 +1,159 @@
+package com.example.springstart.domain.user.password;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 유출 비밀번호 SHA-1 해시 색인 (읽기 전용, 메모리 매핑)
+ * <pre>
+ * | 헤더 32바이트 | 버킷 표: (256^bucketBytes + 1) x long | 레코드: count x suffixBytes (정렬됨) |
+ * 헤더: magic "BPWI"(int) | version(int) | bucketBytes(byte) | suffixBytes(byte) | 예약 6바이트 | count(long) | 예약(long)
+ * </pre>
+ * - 해시 앞 (bucketBytes + suffixBytes)바이트만 저장한다. 앞 bucketBytes바이트는 버킷 번호가 되어 레코드에서 빠지고,
+ *   버킷 표[b] ~ 버킷 표[b + 1] 구간의 suffix를 이진 탐색한다. (기본 2 + 6바이트: 10억 건에서 오탐 확률 약 10^-10)
+ * - 파일은 OS 페이지 캐시를 통해 읽으므로 힙을 쓰지 않는다. 2GB를 넘는 파일은 레코드 경계에 맞춰 여러 조각으로 매핑한다.
+ * - 만드는 방법: BreachedPasswordIndexBuilder
+ * - 여러 스레드에서 동시에 조회해도 안전하다. (절대 위치 읽기만 사용)
+ */
+public final class BreachedPasswordIndex {
+
+    static final int MAGIC = 0x42505749;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int HASH_BYTES = 20;
+
+    private static final int MAX_CHUNK_BYTES = 1 << 30;
+
+    private final int bucketBytes;
+    private final int suffixBytes;
+    private final long count;
+    private final LongBuffer buckets;
+    private final MappedByteBuffer[] chunks;
+    private final long recordsPerChunk;
+
+    private BreachedPasswordIndex(int bucketBytes, int suffixBytes, long count, LongBuffer buckets,
+                                  MappedByteBuffer[] chunks, long recordsPerChunk) {
+        this.bucketBytes = bucketBytes;
+        this.suffixBytes = suffixBytes;
+        this.count = count;
+        this.buckets = buckets;
+        this.chunks = chunks;
+        this.recordsPerChunk = recordsPerChunk;
+    }
+
+    public static BreachedPasswordIndex open(Path file) throws IOException {
+        return open(file, MAX_CHUNK_BYTES);
+    }
+
+    static BreachedPasswordIndex open(Path file, int maxChunkBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // 헤더를 끝까지 읽는다
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+                throw new IOException("유출 비밀번호 색인 파일이 아닙니다: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 색인 버전입니다: " + version);
+            }
+            int bucketBytes = header.get();
+            int suffixBytes = header.get();
+            long count = header.getLong(16);
+            checkLayout(bucketBytes, suffixBytes);
+
+            long tableBytes = (bucketCount(bucketBytes) + 1) * Long.BYTES;
+            long recordsOffset = HEADER_BYTES + tableBytes;
+            if (channel.size() != recordsOffset + count * suffixBytes) {
+                throw new IOException("색인 파일 크기가 헤더와 맞지 않습니다: " + file);
+            }
+            LongBuffer buckets = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, tableBytes).asLongBuffer();
+
+            // 레코드가 조각 경계에 걸치지 않도록 조각 크기를 레코드 크기의 배수로 맞춘다
+            long recordsPerChunk = maxChunkBytes / suffixBytes;
+            int chunkCount = (int) ((count + recordsPerChunk - 1) / recordsPerChunk);
+            MappedByteBuffer[] chunks = new MappedByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long first = i * recordsPerChunk;
+                long records = Math.min(recordsPerChunk, count - first);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        recordsOffset + first * suffixBytes, records * suffixBytes);
+            }
+            return new BreachedPasswordIndex(bucketBytes, suffixBytes, count, buckets, chunks, recordsPerChunk);
+        }
+    }
+
+    /**
+     * SHA-1 해시가 색인에 있는지 확인하는 메서드
+     *
+     * @param sha1 비밀번호의 SHA-1 (20바이트)
+     * @return 유출 목록에 있으면 true
+     */
+    public boolean contains(byte[] sha1) {
+        if (sha1.length != HASH_BYTES) {
+            throw new IllegalArgumentException("SHA-1 해시는 20바이트여야 합니다: " + sha1.length);
+        }
+        int bucket = (int) readUnsigned(sha1, 0, bucketBytes);
+        long key = readUnsigned(sha1, bucketBytes, suffixBytes);
+
+        long low = buckets.get(bucket);
+        long high = buckets.get(bucket + 1) - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            int compare = Long.compareUnsigned(suffixAt(mid), key);
+            if (compare < 0) {
+                low = mid + 1;
+            } else if (compare > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 색인에 있는 해시 개수
+     */
+    public long size() {
+        return count;
+    }
+
+    private long suffixAt(long record) {
+        MappedByteBuffer chunk = chunks[(int) (record / recordsPerChunk)];
+        int offset = (int) (record % recordsPerChunk) * suffixBytes;
+        long value = 0;
+        for (int i = 0; i < suffixBytes; i++) {
+            value = (value << 8) | (chunk.get(offset + i) & 0xFF);
+        }
+        return value;
+    }
+
+    static long readUnsigned(byte[] bytes, int offset, int length) {
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    static long bucketCount(int bucketBytes) {
+        return 1L << (8 * bucketBytes);
+    }
+
+    static void checkLayout(int bucketBytes, int suffixBytes) {
+        if (bucketBytes < 1 || bucketBytes > 3) {
+            throw new IllegalArgumentException("bucketBytes는 1 ~ 3 사이여야 합니다: " + bucketBytes);
+        }
+        if (suffixBytes < 1 || suffixBytes > Long.BYTES || bucketBytes + suffixBytes > HASH_BYTES) {
+            throw new IllegalArgumentException("suffixBytes는 1 ~ 8 사이여야 합니다: " + suffixBytes);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.springstart.domain.user.password;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import static com.example.springstart.domain.user.password.BreachedPasswordIndex.HASH_BYTES;
+import static com.example.springstart.domain.user.password.BreachedPasswordIndex.HEADER_BYTES;
+
+/**
+ * 유출 비밀번호 덤프(SHA-1, 해시 순 정렬)를 BreachedPasswordIndex 형식으로 바꾸는 도구
+ * - 입력: 한 줄에 "SHA1(16진수 40자)[:횟수]" (Have I Been Pwned "ordered by hash" 덤프 형식). 대소문자 무관
+ * - 정렬된 입력을 한 번만 읽으며 레코드를 바로 쓰므로, 덤프 크기와 관계없이 메모리는 버킷 표 크기만 쓴다.
+ *   정렬되지 않은 입력은 중단한다. (LC_ALL=C sort 로 먼저 정렬)
+ * - 자른 해시가 같은 항목은 하나만 남긴다.
+ * - 임시 파일에 쓴 뒤 이름을 바꾸므로, 서버가 매핑 중인 파일을 덮어쓰지 않는다.
+ *
+ * <pre>
+ * gradle breachedPasswordIndex -Pinput=pwned-passwords-sha1-ordered-by-hash-v8.txt -Poutput=breached.idx
+ * </pre>
+ */
+public final class BreachedPasswordIndexBuilder {
+
+    static final int DEFAULT_BUCKET_BYTES = 2;
+    static final int DEFAULT_SUFFIX_BYTES = 6;
+
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private BreachedPasswordIndexBuilder() {
+    }
+
+    /**
+     * 사용법: BreachedPasswordIndexBuilder &lt;입력 덤프&gt; &lt;출력 색인&gt; [bucketBytes(기본 2)] [suffixBytes(기본 6)]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("사용법: BreachedPasswordIndexBuilder <입력 덤프> <출력 색인> [bucketBytes] [suffixBytes]");
+            System.exit(2);
+        }
+        int bucketBytes = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_BUCKET_BYTES;
+        int suffixBytes = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_SUFFIX_BYTES;
+        long start = System.nanoTime();
+        long count = build(Path.of(args[0]), Path.of(args[1]), bucketBytes, suffixBytes);
+        System.out.printf("%s: %,d hashes, %,d bytes, %.1fs%n", args[1], count, Files.size(Path.of(args[1])),
+                (System.nanoTime() - start) / 1e9);
+    }
+
+    /**
+     * 덤프를 읽어 색인 파일을 만드는 메서드
+     *
+     * @param input       정렬된 SHA-1 덤프
+     * @param output      색인 파일
+     * @param bucketBytes 버킷 번호로 쓸 해시 앞부분 바이트 수 (1 ~ 3)
+     * @param suffixBytes 레코드에 저장할 바이트 수 (1 ~ 8)
+     * @return 저장한 해시 개수
+     */
+    public static long build(Path input, Path output, int bucketBytes, int suffixBytes) throws IOException {
+        BreachedPasswordIndex.checkLayout(bucketBytes, suffixBytes);
+        long[] bucketSizes = new long[(int) BreachedPasswordIndex.bucketCount(bucketBytes)];
+        long recordsOffset = HEADER_BYTES + (bucketSizes.length + 1L) * Long.BYTES;
+        Path temp = output.resolveSibling(output.getFileName() + ".tmp");
+
+        long count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.US_ASCII);
+             FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer records = ByteBuffer.allocate(WRITE_BUFFER_BYTES - WRITE_BUFFER_BYTES % suffixBytes);
+            long position = recordsOffset;
+            byte[] hash = new byte[HASH_BYTES];
+            long previousBucket = -1;
+            long previousSuffix = 0;
+            long lineNumber = 0;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                parseHash(line, hash, lineNumber);
+                long bucket = BreachedPasswordIndex.readUnsigned(hash, 0, bucketBytes);
+                long suffix = BreachedPasswordIndex.readUnsigned(hash, bucketBytes, suffixBytes);
+                int order = bucket != previousBucket
+                        ? Long.compare(bucket, previousBucket)
+                        : Long.compareUnsigned(suffix, previousSuffix);
+                if (order < 0) {
+                    throw new IllegalArgumentException("입력이 해시 순으로 정렬되어 있지 않습니다: " + lineNumber + "번째 줄");
+                }
+                if (order == 0 && count > 0) {
+                    continue;
+                }
+                previousBucket = bucket;
+                previousSuffix = suffix;
+
+                if (!records.hasRemaining()) {
+                    position += writeFully(channel, records.flip(), position);
+                    records.clear();
+                }
+                records.put(hash, bucketBytes, suffixBytes);
+                bucketSizes[(int) bucket]++;
+                count++;
+            }
+            writeFully(channel, records.flip(), position);
+
+            // 헤더와 버킷 표(각 버킷의 첫 레코드 번호)는 레코드 수를 센 뒤 파일 앞쪽에 쓴다
+            ByteBuffer head = ByteBuffer.allocate((int) recordsOffset);
+            head.putInt(BreachedPasswordIndex.MAGIC)
+                    .putInt(BreachedPasswordIndex.VERSION)
+                    .put((byte) bucketBytes)
+                    .put((byte) suffixBytes)
+                    .position(16);
+            head.putLong(count).putLong(0);
+            long start = 0;
+            for (long size : bucketSizes) {
+                head.putLong(start);
+                start += size;
+            }
+            head.putLong(start);
+            writeFully(channel, head.flip(), 0);
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return count;
+    }
+
+    private static void parseHash(String line, byte[] hash, long lineNumber) {
+        int end = line.indexOf(':');
+        String hex = (end < 0 ? line : line.substring(0, end)).trim();
+        if (hex.length() != HASH_BYTES * 2) {
+            throw new IllegalArgumentException("SHA-1(16진수 40자)이 아닙니다: " + lineNumber + "번째 줄");
+        }
+        for (int i = 0; i < HASH_BYTES; i++) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("16진수가 아닌 문자가 있습니다: " + lineNumber + "번째 줄");
+            }
+            hash[i] = (byte) ((high << 4) | low);
+        }
+    }
+
+    private static long writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, position + written);
+        }
+        return written;
+    }
+}
@@ -1,15 +1,103 @@
 package com.example.springstart.domain.user.repository;
 
+import com.example.springstart.domain.user.dto.CustomUserDetails;
 import com.example.springstart.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository
         extends JpaRepository<User, Long>, UserRepositoryCustom {
 
+    // 읽기 전용 조회 - replica가 설정되어 있으면 replica로 라우팅 (DataSourceConfig 참고)
+    @Transactional(readOnly = true)
     Optional<User> findByUsername(String username);
     //Optional<User> findByUserId(String userId);
 
+    // 요청마다 실행되는 인증 주체 조회 - 엔티티 대신 필요한 컬럼만 읽어 CustomUserDetails를 바로 만든다
+    @Transactional(readOnly = true)
+    @Query("select new com.example.springstart.domain.user.dto.CustomUserDetails("
+            + "u.id, u.username, u.role, u.Banned, u.passwordErrorCount) from User u where u.username = :username")
+    Optional<CustomUserDetails> findPrincipalByUsername(@Param("username") String username);
+
+    @Transactional(readOnly = true)
     Boolean existsByUsername(String username);
-}
\ No newline at end of file
+
+    // 변경 이벤트(outbox)에 넣을 id만 필요한 경우 - 엔티티를 만들지 않는다
+    @Query("select u.id as id, u.username as username from User u where u.username = :username")
+    Optional<UserKey> findKeyByUsername(@Param("username") String username);
+
+    @Query("select u.id as id, u.username as username from User u where u.username in :usernames")
+    List<UserKey> findKeysByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    // ========================= 🔹 단일 컬럼 UPDATE =========================
+    // 엔티티를 읽어 merge 하지 않고, 바뀐 컬럼만 UPDATE 한 번으로 처리한다.
+    // 벌크 연산은 영속성 컨텍스트와 Auditing을 거치지 않으므로 updatedAt을 직접 갱신한다.
+    // 반환값은 변경된 행 수 (0이면 해당 사용자가 없음)
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.Banned = :banned, u.updatedAt = local datetime where u.username = :username")
+    int updateBanByUsername(@Param("username") String username, @Param("banned") boolean banned);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.passwordErrorCount = u.passwordErrorCount + 1, u.updatedAt = local datetime where u.username = :username")
+    int incrementPasswordErrorCount(@Param("username") String username);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.passwordErrorCount = 0, u.updatedAt = local datetime where u.username = :username")
+    int resetPasswordErrorCount(@Param("username") String username);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.password = :password, u.updatedAt = local datetime where u.username = :username")
+    int updatePasswordByUsername(@Param("username") String username, @Param("password") String password);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from User u where u.username = :username")
+    int deleteByUsername(@Param("username") String username);
+
+    // ========================= 🔹 일괄 UPDATE / DELETE =========================
+    // AdminUserServiceImpl이 chunk 단위로 호출한다. (chunk마다 트랜잭션 하나)
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.Banned = :banned, u.updatedAt = local datetime where u.username in :usernames")
+    int updateBanByUsernameIn(@Param("usernames") Collection<String> usernames, @Param("banned") boolean banned);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.passwordErrorCount = 0, u.updatedAt = local datetime where u.username in :usernames")
+    int resetPasswordErrorCountByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.passwordErrorCount = 0, u.updatedAt = local datetime where u.id in :ids")
+    int resetPasswordErrorCountByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from User u where u.username in :usernames")
+    int deleteByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    @Transactional(readOnly = true)
+    @Query("select u.id as id, u.username as username from User u"
+            + " where u.passwordErrorCount > :maxErrorCount and u.id > :afterId order by u.id")
+    List<UserKey> findLockedAfter(@Param("afterId") long afterId, @Param("maxErrorCount") int maxErrorCount, Pageable pageable);
+
+    interface UserKey {
+        Long getId();
+
+        String getUsername();
+    }
+}
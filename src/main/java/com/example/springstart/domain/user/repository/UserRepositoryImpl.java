@@ -9,16 +9,15 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
-import jdk.jfr.Registered;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 import static com.example.springstart.domain.user.entity.QUser.*;
 
-@Registered
 public class UserRepositoryImpl implements UserRepositoryCustom{
 
     private final JPAQueryFactory queryFactory;
@@ -27,6 +26,7 @@ public class UserRepositoryImpl implements UserRepositoryCustom{
         this.queryFactory = new JPAQueryFactory(em);
     }
 
+    @Transactional(readOnly = true)
     public Page<UserGetResponseDto> getUsers(Pageable pageable) {
         List<UserGetResponseDto> users = queryFactory
                 .select(Projections.constructor(UserGetResponseDto.class,
@@ -0,0 +1,15 @@
+package com.example.springstart.domain.user.service;
+
+import com.example.springstart.domain.user.dto.BulkBanRequestDto;
+import com.example.springstart.domain.user.dto.BulkDeleteRequestDto;
+import com.example.springstart.domain.user.dto.BulkResponseDto;
+import com.example.springstart.domain.user.dto.BulkUnlockRequestDto;
+
+public interface AdminUserService {
+
+    BulkResponseDto banUsers(BulkBanRequestDto dto);
+
+    BulkResponseDto unlockUsers(BulkUnlockRequestDto dto);
+
+    BulkResponseDto deleteUsers(BulkDeleteRequestDto dto);
+}
@@ -0,0 +1,105 @@
+package com.example.springstart.domain.user.service;
+
+import com.example.springstart.domain.audit.bus.AuditEventBus;
+import com.example.springstart.domain.audit.entity.AuditEventType;
+import com.example.springstart.domain.outbox.entity.OutboxEventType;
+import com.example.springstart.domain.outbox.repository.OutboxEventWriter;
+import com.example.springstart.domain.user.dto.BulkBanRequestDto;
+import com.example.springstart.domain.user.dto.BulkDeleteRequestDto;
+import com.example.springstart.domain.user.dto.BulkResponseDto;
+import com.example.springstart.domain.user.dto.BulkUnlockRequestDto;
+import com.example.springstart.domain.user.entity.User;
+import com.example.springstart.domain.user.repository.UserRepository;
+import com.example.springstart.domain.user.repository.UserRepository.UserKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * 관리자용 일괄 처리 서비스 (밴, 잠금 해제, 삭제)
+ * - 대상 목록을 chunk 단위로 나눠 `where username in (...)` UPDATE/DELETE 한 번씩 실행한다.
+ * - chunk마다 별도 트랜잭션으로 커밋하므로, 수천 건을 처리해도 행 잠금은 chunk 크기만큼만 유지된다.
+ * - 같은 chunk 트랜잭션 안에서 대상 사용자마다 변경 이벤트(outbox)를 쓰고, 커밋 후 감사 이벤트(detail=bulk)를 남긴다.
+ * - 사용자 정보는 요청마다 DB에서 다시 읽으므로(JwtTokenProvider.getAuthentication) 따로 무효화할 캐시는 없다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminUserServiceImpl implements AdminUserService {
+
+    private final UserRepository userRepository;
+    private final AuditEventBus auditEventBus;
+    private final OutboxEventWriter outboxEventWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${springboot.admin.bulk-chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public BulkResponseDto banUsers(BulkBanRequestDto dto) {
+        boolean ban = dto.getBan();
+        return inChunks(dto.getUsernames(), ban ? AuditEventType.BAN : AuditEventType.UNBAN,
+                ban ? OutboxEventType.USER_BANNED : OutboxEventType.USER_UNBANNED,
+                chunk -> userRepository.updateBanByUsernameIn(chunk, ban));
+    }
+
+    @Override
+    public BulkResponseDto unlockUsers(BulkUnlockRequestDto dto) {
+        if (!dto.isAllLocked()) {
+            return inChunks(dto.getUsernames(), AuditEventType.UNLOCK, OutboxEventType.USER_UNLOCKED,
+                    userRepository::resetPasswordErrorCountByUsernameIn);
+        }
+
+        // 잠긴 계정 전체: id 순으로 chunk 크기만큼 잘라가며 처리 (한 번에 전체 테이블을 잠그지 않는다)
+        int affected = 0;
+        long lastId = 0L;
+        while (true) {
+            List<UserKey> locked = userRepository.findLockedAfter(lastId, User.MAX_PASSWORD_ERROR_COUNT, PageRequest.ofSize(chunkSize));
+            if (locked.isEmpty()) {
+                break;
+            }
+            affected += transactionTemplate.execute(status -> {
+                int count = userRepository.resetPasswordErrorCountByIdIn(locked.stream().map(UserKey::getId).toList());
+                outboxEventWriter.appendAll(OutboxEventType.USER_UNLOCKED, locked);
+                return count;
+            });
+            locked.forEach(user -> auditEventBus.publish(AuditEventType.UNLOCK, user.getUsername(), "bulk"));
+            lastId = locked.get(locked.size() - 1).getId();
+        }
+        log.info("잠긴 계정 일괄 해제: {}건", affected);
+        return new BulkResponseDto(affected, affected);
+    }
+
+    @Override
+    public BulkResponseDto deleteUsers(BulkDeleteRequestDto dto) {
+        return inChunks(dto.getUsernames(), AuditEventType.DELETE, OutboxEventType.USER_DELETED,
+                userRepository::deleteByUsernameIn);
+    }
+
+    private BulkResponseDto inChunks(List<String> usernames, AuditEventType auditType, OutboxEventType outboxType,
+                                     ToIntFunction<List<String>> statement) {
+        List<String> targets = new ArrayList<>(new LinkedHashSet<>(usernames));
+        int affected = 0;
+        for (int from = 0; from < targets.size(); from += chunkSize) {
+            List<String> chunk = targets.subList(from, Math.min(from + chunkSize, targets.size()));
+            List<UserKey> users = transactionTemplate.execute(status -> {
+                // 삭제 전에 id를 읽어 둬야 한다 (이벤트의 aggregateId)
+                List<UserKey> keys = userRepository.findKeysByUsernameIn(chunk);
+                statement.applyAsInt(chunk);
+                outboxEventWriter.appendAll(outboxType, keys);
+                return keys;
+            });
+            affected += users.size();
+            users.forEach(user -> auditEventBus.publish(auditType, user.getUsername(), "bulk"));
+        }
+        return new BulkResponseDto(targets.size(), affected);
+    }
+}
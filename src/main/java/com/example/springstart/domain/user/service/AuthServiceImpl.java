@@ -1,23 +1,45 @@
 package com.example.springstart.domain.user.service;
 
+import com.example.springstart.domain.audit.bus.AuditEventBus;
+import com.example.springstart.domain.audit.entity.AuditEventType;
+import com.example.springstart.domain.common.exception.ApiException;
+import com.example.springstart.domain.common.exception.AuthException;
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import com.example.springstart.domain.outbox.entity.OutboxEventType;
+import com.example.springstart.domain.outbox.repository.OutboxEventWriter;
 import com.example.springstart.domain.user.dto.*;
 import com.example.springstart.domain.user.entity.User;
 import com.example.springstart.domain.user.entity.UserRoleType;
 import com.example.springstart.domain.user.jwt.JwtTokenProvider;
+import com.example.springstart.domain.user.metrics.AuthMetrics;
+import com.example.springstart.domain.user.metrics.AuthMetrics.LoginOutcome;
+import com.example.springstart.domain.user.password.BreachedPasswordChecker;
 import com.example.springstart.domain.user.repository.UserRepository;
+import com.example.springstart.domain.user.repository.UserRepository.UserKey;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-
-@Slf4j
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 인증 서비스
+ * - 트랜잭션은 DB 작업 구간에만 건다. BCrypt, 토큰 서명, Redis 호출 동안 커넥션을 잡고 있지 않도록
+ *   조회는 Repository의 readOnly 트랜잭션, 쓰기는 바뀐 컬럼만 UPDATE 하는 단일 쿼리로 처리한다.
+ * - 밴/잠금 해제는 UPDATE와 변경 이벤트(outbox)를 한 트랜잭션으로 커밋한다.
+ */
 @Service
 @RequiredArgsConstructor
+@Observed(name = "auth.service")
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final AuthMetrics authMetrics;
+    private final AuditEventBus auditEventBus;
+    private final OutboxEventWriter outboxEventWriter;
+    private final BreachedPasswordChecker breachedPasswordChecker;
 
     @Override
     public void join(JoinRequestDto dto) {
@@ -26,11 +48,15 @@ public class AuthServiceImpl implements AuthService {
         String confirmPassword = dto.getConfirmPassword();
 
         if (userRepository.existsByUsername(username)) {
-            return;
+            throw new ApiException(ExceptionMessage.USERNAME_DUPLICATED);
         }
 
         if (!password.equals(confirmPassword)) {
-            throw new IllegalArgumentException("New passwords don't match");
+            throw new ApiException(ExceptionMessage.PASSWORD_CONFIRM_MISMATCH);
+        }
+
+        if (breachedPasswordChecker.isBreached(password)) {
+            throw new ApiException(ExceptionMessage.PASSWORD_BREACHED);
         }
 
         String encodedPassword = passwordEncoder.encode(password);
@@ -49,63 +75,85 @@ public class AuthServiceImpl implements AuthService {
         String username = dto.getUsername();
         String password = dto.getPassword();
 
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("유저가 존재하지 않습니다"));
+        User user = authMetrics.timeUserLookup(() -> userRepository.findByUsername(username))
+                .orElseThrow(() -> {
+                    recordLoginFailure(username, LoginOutcome.USER_NOT_FOUND);
+                    return new AuthException(ExceptionMessage.INVALID_CREDENTIALS);
+                });
 
         if (!passwordEncoder.matches(password, user.getPassword())) {
-            user.updatePasswordErrorCount(user.getPasswordErrorCount() + 1);
-            userRepository.save(user);
-            log.info("{}pwdErrCount = {}", user.getUsername(), user.getPasswordErrorCount());
-            throw new IllegalArgumentException("패스워드가 일치하지 않습니다");
+            recordLoginFailure(username, LoginOutcome.BAD_PASSWORD);
+            userRepository.incrementPasswordErrorCount(username);
+            throw new AuthException(ExceptionMessage.INVALID_CREDENTIALS);
         }
 
-        //회원정보 유효성 검증 후 토큰 발급
+        // 이미 읽어 온 엔티티로 밴/잠금 여부를 확인한 뒤에 토큰을 발급한다
+        // (발급한 토큰을 다시 파싱해 사용자를 재조회하지 않고, 거절할 사용자의 refresh 토큰을 저장하지 않는다)
+        CustomUserDetails customUserDetails = CustomUserDetails.from(user);
+        if (!customUserDetails.isEnabled()) {
+            recordLoginFailure(username, LoginOutcome.BANNED);
+            throw new AuthException(ExceptionMessage.USER_BANNED);
+        }
+
+        if (!customUserDetails.isAccountNonLocked()) {
+            recordLoginFailure(username, LoginOutcome.LOCKED);
+            throw new AuthException(ExceptionMessage.ACCOUNT_LOCKED);
+        }
 
         TokenResponseDto tokenResponseDto = new TokenResponseDto(
                 jwtTokenProvider.createAccessToken(user.getUsername(), user.getRole().toString()),
                 jwtTokenProvider.createRefreshToken(user.getUsername())
         );
 
-        // 스프링 시큐리티 필터를 통해서 로그인이 처리되었으면
-        // CustomUserDetails안에 유저정보가 들어있으니까 그걸통해서 밴여부를 확인하는거져
-        // 사용자 밴 여부 확인 로직 이부분 메서드로 빼서 쓰시면 깔끔할듯
-        CustomUserDetails customUserDetails = (CustomUserDetails) jwtTokenProvider.getAuthentication(tokenResponseDto.getAccessToken()).getPrincipal();
-        if(!customUserDetails.isEnabled()){
-            System.out.println("너 밴");
-            throw new RuntimeException("밴 사용자");
-        }
-
-        if (!customUserDetails.isAccountNonLocked()) {
-            System.out.println("너 임시 정지");
-            throw new RuntimeException("임시 정지 사용자");
-        }
-
+        authMetrics.recordLogin(LoginOutcome.SUCCESS);
+        auditEventBus.publish(AuditEventType.LOGIN_SUCCESS, username, null);
         return tokenResponseDto;
     }
 
+    private void recordLoginFailure(String username, LoginOutcome outcome) {
+        authMetrics.recordLogin(outcome);
+        auditEventBus.publish(AuditEventType.LOGIN_FAILURE, username, outcome.name());
+    }
+
     @Override
     public void logout(String bearerToken) {
         String accessToken = jwtTokenProvider.resolveToken(bearerToken)
-                .orElseThrow(() -> new IllegalArgumentException("Token is null"));
+                .orElseThrow(() -> new AuthException(ExceptionMessage.ACCESS_TOKEN_INVALID));
 
         if (!jwtTokenProvider.validateToken(accessToken)) {
-            throw new IllegalArgumentException("Invalid token");
+            throw new AuthException(ExceptionMessage.ACCESS_TOKEN_INVALID);
         }
 
-        jwtTokenProvider.addBlacklist(accessToken);
-        jwtTokenProvider.deleteRefreshToken(accessToken);
+        jwtTokenProvider.revoke(accessToken);
+        auditEventBus.publish(AuditEventType.LOGOUT, jwtTokenProvider.getUserName(accessToken), null);
     }
 
     @Override
     public TokenResponseDto refresh(String bearerToken) {
         String refreshToken = jwtTokenProvider.resolveToken(bearerToken)
-                .orElseThrow(() -> new IllegalArgumentException("Token is null"));
+                .orElseThrow(() -> new AuthException(ExceptionMessage.REFRESH_TOKEN_INVALID));
 
         if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new IllegalArgumentException("Invalid token");
+            throw new AuthException(ExceptionMessage.REFRESH_TOKEN_INVALID);
+        }
+
+        // 서명/만료만으로는 로그아웃(리프레시 토큰 삭제)이나 재로그인(교체)을 알 수 없으므로 저장된 토큰과 비교한다
+        if (!jwtTokenProvider.isValidRefreshToken(refreshToken)) {
+            throw new AuthException(ExceptionMessage.REFRESH_TOKEN_INVALID);
         }
 
-        User user = userRepository.findByUsername(jwtTokenProvider.getUserName(refreshToken)).get();
+        String username = jwtTokenProvider.getUserName(refreshToken);
+        User user = authMetrics.timeUserLookup(() -> userRepository.findByUsername(username))
+                .orElseThrow(() -> new AuthException(ExceptionMessage.REFRESH_TOKEN_INVALID));
+
+        // 밴/잠금된 사용자에게는 새 액세스 토큰을 발급하지 않는다
+        CustomUserDetails customUserDetails = CustomUserDetails.from(user);
+        if (!customUserDetails.isEnabled()) {
+            throw new AuthException(ExceptionMessage.USER_BANNED);
+        }
+        if (!customUserDetails.isAccountNonLocked()) {
+            throw new AuthException(ExceptionMessage.ACCOUNT_LOCKED);
+        }
 
         return new TokenResponseDto(
                 jwtTokenProvider.createAccessToken(user.getUsername(),
@@ -115,21 +163,24 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
+    @Transactional
     public BanResponseDto banUser(BanRequestDto dto) {
-        User user = userRepository.findByUsername(dto.getUsername())
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
-        user.updateBan(dto.getBan());
-        userRepository.save(user);
+        UserKey user = userRepository.findKeyByUsername(dto.getUsername())
+                .orElseThrow(() -> new ApiException(ExceptionMessage.USER_NOT_FOUND));
+        userRepository.updateBanByUsername(dto.getUsername(), dto.getBan());
+        outboxEventWriter.append(dto.getBan() ? OutboxEventType.USER_BANNED : OutboxEventType.USER_UNBANNED, user);
+        auditEventBus.publish(dto.getBan() ? AuditEventType.BAN : AuditEventType.UNBAN, dto.getUsername(), null);
         return new BanResponseDto();
     }
 
     @Override
+    @Transactional
     public UnlockResponseDto unlockUser(UnlockRequestDto dto) {
-        User user = userRepository.findByUsername(dto.getUsername())
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        user.updatePasswordErrorCount(0);
-        userRepository.save(user);
+        UserKey user = userRepository.findKeyByUsername(dto.getUsername())
+                .orElseThrow(() -> new ApiException(ExceptionMessage.USER_NOT_FOUND));
+        userRepository.resetPasswordErrorCount(dto.getUsername());
+        outboxEventWriter.append(OutboxEventType.USER_UNLOCKED, user);
+        auditEventBus.publish(AuditEventType.UNLOCK, dto.getUsername(), null);
         return new UnlockResponseDto();
     }
 }
\ No newline at end of file
@@ -1,28 +1,44 @@
 package com.example.springstart.domain.user.service;
 
+import com.example.springstart.domain.common.concurrent.SingleFlight;
 import com.example.springstart.domain.user.dto.CustomUserDetails;
-import com.example.springstart.domain.user.entity.User;
+import com.example.springstart.domain.user.metrics.AuthMetrics;
 import com.example.springstart.domain.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-@Slf4j
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * JWT 인증 요청마다 인증 주체를 읽는 서비스
+ * - 같은 사용자 이름의 동시 조회는 SingleFlight로 합쳐 DB 쿼리 한 번의 결과를 함께 쓴다.
+ *   (서비스 계정 하나에 요청이 몰리거나 한 클라이언트가 병렬 요청을 보낼 때 같은 쿼리가 동시에 나가지 않게)
+ * - 결과(CustomUserDetails)는 불변이라 공유해도 안전하다. 없는 사용자(빈 Optional)와 조회 예외도 기다리던 모든 요청에 전달된다.
+ * - 먼저 시작한 조회에 합류하므로, 그 조회가 시작된 뒤 커밋된 변경(밴 등)은 다음 요청부터 보인다.
+ *   (JwtAuthenticationFilter가 밴/잠금된 주체를 인증하지 않으므로, 밴은 액세스 토큰 만료 전에도 다음 요청부터 적용된다)
+ */
 @Service
-@RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
+
     private final UserRepository userRepository;
+    private final AuthMetrics authMetrics;
+    private final SingleFlight<String, Optional<CustomUserDetails>> lookups;
+
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  AuthMetrics authMetrics,
+                                  @Value("${springboot.user.lookup-max-wait-ms:1000}") long lookupMaxWaitMs) {
+        this.userRepository = userRepository;
+        this.authMetrics = authMetrics;
+        this.lookups = new SingleFlight<>(Duration.ofMillis(lookupMaxWaitMs), authMetrics::recordUserLookup);
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("no user"));
-
-        log.info("Username : {}", user.getId());
-
-        return new CustomUserDetails(user);
+        return authMetrics.timeUserLookup(() -> lookups.execute(username, () -> userRepository.findPrincipalByUsername(username)))
+                .orElseThrow(() -> new UsernameNotFoundException(username));
     }
 }
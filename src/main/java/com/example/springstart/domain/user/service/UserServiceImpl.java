@@ -1,60 +1,92 @@
 package com.example.springstart.domain.user.service;
 
+import com.example.springstart.domain.audit.bus.AuditEventBus;
+import com.example.springstart.domain.audit.entity.AuditEventType;
+import com.example.springstart.domain.common.exception.ApiException;
+import com.example.springstart.domain.common.exception.AuthException;
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import com.example.springstart.domain.outbox.entity.OutboxEventType;
+import com.example.springstart.domain.outbox.repository.OutboxEventWriter;
 import com.example.springstart.domain.user.dto.PasswordUpdateRequestDto;
 import com.example.springstart.domain.user.dto.PasswordUpdateResponseDto;
 import com.example.springstart.domain.user.dto.UserUpdateRequestDto;
 import com.example.springstart.domain.user.dto.UserUpdateResponseDto;
 import com.example.springstart.domain.user.entity.User;
 import com.example.springstart.domain.user.entity.UserRoleType;
+import com.example.springstart.domain.user.password.BreachedPasswordChecker;
 import com.example.springstart.domain.user.repository.UserRepository;
+import com.example.springstart.domain.user.repository.UserRepository.UserKey;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 사용자 정보 수정 서비스
+ * - 비밀번호 변경은 BCrypt 검증/인코딩을 트랜잭션 밖에서 끝낸 뒤 password 컬럼만 UPDATE 한다.
+ * - 모든 변경은 변경 이벤트(outbox)와 같은 트랜잭션으로 커밋한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuditEventBus auditEventBus;
+    private final OutboxEventWriter outboxEventWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final BreachedPasswordChecker breachedPasswordChecker;
 
     @Override
+    @Transactional
     public UserUpdateResponseDto updateUser(Long id, UserUpdateRequestDto dto) {
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+                .orElseThrow(() -> new ApiException(ExceptionMessage.USER_NOT_FOUND));
 
+        // 변경 감지 + @DynamicUpdate로 바뀐 컬럼만 UPDATE
+        // outbox INSERT(JDBC)는 flush를 일으키지 않으므로 먼저 UPDATE를 보내 행 잠금을 잡은 뒤에 이벤트 id를 만든다
         user.updateUser(dto.getUsername(), dto.getEmail());
+        userRepository.saveAndFlush(user);
+        outboxEventWriter.append(OutboxEventType.USER_UPDATED, user.getId(), user.getUsername());
 
-        userRepository.save(user);
         return new UserUpdateResponseDto(user);
     }
 
     @Override
     public PasswordUpdateResponseDto updatePassword(PasswordUpdateRequestDto dto) {
         User user = userRepository.findByUsername(dto.getUsername())
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+                .orElseThrow(() -> new ApiException(ExceptionMessage.USER_NOT_FOUND));
 
         if (!passwordEncoder.matches(dto.getCurrentPassword(), user.getPassword())) {
-            throw new IllegalArgumentException("Wrong password");
+            throw new AuthException(ExceptionMessage.INVALID_CREDENTIALS);
         }
 
 /*        if (!dto.getNewPassword().equals(dto.getConfirmPassword())) {
             throw new IllegalArgumentException("New passwords don't match");
         }*/
 
-        String encodedPassword = passwordEncoder.encode(dto.getNewPassword());
-        user.updatePassword(encodedPassword);
+        if (breachedPasswordChecker.isBreached(dto.getNewPassword())) {
+            throw new ApiException(ExceptionMessage.PASSWORD_BREACHED);
+        }
 
-        userRepository.save(user);
+        String encodedPassword = passwordEncoder.encode(dto.getNewPassword());
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.updatePasswordByUsername(user.getUsername(), encodedPassword);
+            outboxEventWriter.append(OutboxEventType.PASSWORD_CHANGED, user.getId(), user.getUsername());
+        });
+        auditEventBus.publish(AuditEventType.PASSWORD_CHANGE, user.getUsername(), null);
 
         return new PasswordUpdateResponseDto(); //비밀번호 body에 노출 위험 -> 메시지 반환
     }
 
     @Override
+    @Transactional
     public void deleteUser(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
-        userRepository.delete(user);
+        UserKey user = userRepository.findKeyByUsername(username)
+                .orElseThrow(() -> new ApiException(ExceptionMessage.USER_NOT_FOUND));
+        userRepository.deleteByUsername(username);
+        outboxEventWriter.append(OutboxEventType.USER_DELETED, user);
+        auditEventBus.publish(AuditEventType.DELETE, username, null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+-- 기준 스키마: Flyway 도입 전 ddl-auto=update로 만들어진 User 테이블
+-- 이미 운영 중인 DB는 spring.flyway.baseline-on-migrate로 이 버전을 적용한 것으로 기록하고 V2부터 실행한다.
+CREATE TABLE IF NOT EXISTS User (
+    id                 BIGINT        NOT NULL AUTO_INCREMENT,
+    username           VARCHAR(255)  NOT NULL,
+    password           VARCHAR(255)  NOT NULL,
+    role               ENUM ('ADMIN', 'USER'),
+    email              VARCHAR(255)  NOT NULL,
+    Banned             BIT           NOT NULL,
+    passwordErrorCount INT,
+    createdAt          DATETIME(6),
+    updatedAt          DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_username UNIQUE (username)
+) ENGINE = InnoDB;
@@ -0,0 +1,5 @@
+-- User.id: AUTO_INCREMENT -> 애플리케이션에서 생성하는 Snowflake ID
+-- 기존 행의 id는 그대로 둔다. Snowflake 값(2025-01-01 이후 밀리초 << 22)은 기존 AUTO_INCREMENT 값보다 항상 크므로
+-- PK 순서(시간순)와 인덱스 지역성이 유지되고, 기존 id를 참조하는 곳도 바꿀 필요가 없다.
+-- AUTO_INCREMENT를 남겨 두어도 명시한 id가 우선하지만, 실수로 id 없이 INSERT 하는 경로를 막기 위해 제거한다.
+ALTER TABLE User MODIFY id BIGINT NOT NULL;
@@ -0,0 +1,12 @@
+-- 인증/계정 보안 감사 로그 (추가 전용)
+-- IF NOT EXISTS: Flyway 도입 전 ddl-auto=update로 이미 만들어진 DB에서도 실패하지 않도록 한다.
+CREATE TABLE IF NOT EXISTS AuditLog (
+    id        BIGINT       NOT NULL PRIMARY KEY,
+    type      VARCHAR(32)  NOT NULL,
+    username  VARCHAR(255) NOT NULL,
+    actor     VARCHAR(255),
+    detail    VARCHAR(255),
+    createdAt DATETIME(6)  NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_audit_log_username_created_at ON AuditLog (username, createdAt);
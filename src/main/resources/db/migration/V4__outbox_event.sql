@@ -0,0 +1,8 @@
+-- 사용자 변경 이벤트 outbox (Redis Stream으로 보낸 뒤 삭제)
+CREATE TABLE IF NOT EXISTS OutboxEvent (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    aggregateId BIGINT       NOT NULL,
+    type        VARCHAR(32)  NOT NULL,
+    username    VARCHAR(255) NOT NULL,
+    createdAt   DATETIME(6)  NOT NULL
+);
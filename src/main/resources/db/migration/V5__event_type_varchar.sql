@@ -0,0 +1,5 @@
+-- 이벤트 종류 컬럼을 VARCHAR로 통일 (엔티티는 @JdbcTypeCode(VARCHAR))
+-- Flyway 도입 전 ddl-auto=update가 네이티브 ENUM으로 만든 DB도 ddl-auto=validate를 통과하도록 한다.
+-- 이미 VARCHAR(32)이면 변경 없음.
+ALTER TABLE AuditLog MODIFY type VARCHAR(32) NOT NULL;
+ALTER TABLE OutboxEvent MODIFY type VARCHAR(32) NOT NULL;
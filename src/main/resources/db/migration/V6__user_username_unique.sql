@@ -0,0 +1,15 @@
+-- username 유일 인덱스 (uk_user_username)
+-- Flyway 도입 전 ddl-auto=update로 만들어진 DB에는 이 인덱스가 없고, V1은 기준선으로만 기록되어 실행되지 않는다.
+-- 가입/가져오기는 "존재 확인 → INSERT"라 인덱스가 없으면 동시 요청으로 같은 username이 생길 수 있다.
+-- 1. 이미 중복된 username은 가장 먼저 만든 행(가장 작은 id)만 남기고 나머지를 '<username>#<id>'로 바꾼다.
+--    (계정을 지우지 않고, 바뀐 계정은 관리자가 확인해 정리한다)
+--    MariaDB는 UPDATE 대상 테이블을 하위 쿼리에서 바로 읽을 수 없으므로 파생 테이블로 한 번 감싼다.
+UPDATE User
+SET username = CONCAT(username, '#', id)
+WHERE id IN (SELECT id
+             FROM (SELECT later.id
+                   FROM User later
+                            JOIN User earlier ON earlier.username = later.username AND earlier.id < later.id) duplicated);
+
+-- 2. 인덱스가 없을 때만 만든다. (빈 DB는 V1에서 이미 만들어졌다)
+CREATE UNIQUE INDEX IF NOT EXISTS uk_user_username ON User (username);
@@ -0,0 +1,43 @@
+package com.example.springstart.config;
+
+import com.example.springstart.domain.common.id.SnowflakeIdentifierGenerator;
+import com.example.springstart.domain.user.dto.CustomUserDetails;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeHintsConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeHintsConfigTest() {
+        new NativeHintsConfig.AppRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void jjwt_구현체는_모두_클래스패스에_있고_리플렉션_힌트가_등록된다() throws Exception {
+        for (String type : NativeHintsConfig.JJWT_IMPL_TYPES) {
+            Class.forName(type);
+            assertThat(RuntimeHintsPredicates.reflection()
+                    .onType(TypeReference.of(type))
+                    .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                    .accepts(hints);
+        }
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Serializer"))
+                .accepts(hints);
+    }
+
+    @Test
+    void ID_생성기와_인증_주체_힌트가_등록된다() {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(SnowflakeIdentifierGenerator.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.serialization().onType(CustomUserDetails.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V2__user_snowflake_id.sql")).accepts(hints);
+    }
+}
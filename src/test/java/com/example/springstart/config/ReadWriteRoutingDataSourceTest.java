@@ -0,0 +1,93 @@
+package com.example.springstart.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서로 다른 두 로컬 DB(H2)를 primary/replica로 두고 라우팅을 확인한다.
+ * 각 DB의 node 테이블에 자기 이름을 넣어 두고, 조회 결과로 어느 DB에 연결됐는지 판단한다.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReadWriteRoutingDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        HikariDataSource primary = pool("primary");
+        HikariDataSource replica = pool("replica");
+        dataSource = new ReadWriteRoutingDataSource(primary, replica);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    private HikariDataSource pool(String name) {
+        HikariDataSource pool = DataSourceConfig.createPool(name,
+                "jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "", 2, meterRegistry);
+        JdbcTemplate template = new JdbcTemplate(pool);
+        template.execute("CREATE TABLE node (name VARCHAR(16))");
+        template.update("INSERT INTO node VALUES (?)", name);
+        return pool;
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_replica로_간다() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        String node = readOnly.execute(status -> currentNode());
+
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    void 쓰기_트랜잭션은_primary로_간다() {
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        String node = readWrite.execute(status -> currentNode());
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void 트랜잭션_밖의_조회는_primary로_간다() {
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void 풀마다_메트릭을_남긴다() {
+        currentNode();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.execute(status -> currentNode());
+
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "replica").gauge()).isNotNull();
+    }
+
+    @Test
+    void 풀_크기는_코어_수로_계산한다() {
+        assertThat(DataSourceConfig.poolSizeFor(4)).isEqualTo(9);
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.springstart.config;
+
+import com.example.springstart.domain.user.jwt.BlacklistSnapshot;
+import com.example.springstart.domain.user.jwt.RedisTokenStore;
+import com.example.springstart.domain.user.metrics.AuthMetrics;
+import com.github.fppt.jedismock.RedisServer;
+import com.github.fppt.jedismock.datastructures.Slice;
+import com.github.fppt.jedismock.operations.server.MockExecutor;
+import com.github.fppt.jedismock.server.Response;
+import com.github.fppt.jedismock.server.ServiceOptions;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 토폴로지별 연결 구성 테스트
+ * - 노드마다 jedis-mock 서버를 하나씩 띄워 standalone / sentinel(마스터+복제본+센티널) / cluster를 흉내 낸다.
+ * - jedis-mock은 복제를 하지 않으므로, 복제본에만 넣은 키가 읽히는지로 복제본 우선 읽기를 확인한다.
+ */
+class RedisConfigTest {
+
+    private static final long TTL = 60_000;
+    // 버킷 경계(60초)에서 떨어진 만료 시각으로 고정해 모든 토큰이 같은 버킷에 들어가게 한다
+    private static final long EXPIRES_AT = (System.currentTimeMillis() / 60_000 + 10) * 60_000 + 30_000;
+    private static final String BUCKET_KEY = "bl:" + EXPIRES_AT / 60_000;
+
+    private final List<RedisServer> servers = new ArrayList<>();
+    private final List<LettuceConnectionFactory> factories = new ArrayList<>();
+    private final ClientResources clientResources = ClientResources.create();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        factories.forEach(LettuceConnectionFactory::destroy);
+        clientResources.shutdown(0, 1, TimeUnit.SECONDS);
+        for (RedisServer server : servers) {
+            if (server.isRunning()) {
+                server.stop();
+            }
+        }
+    }
+
+    @Test
+    void standalone은_풀링_연결로_토큰을_저장하고_로그아웃을_파이프라인으로_처리한다() throws Exception {
+        RedisServer redis = start(ServiceOptions.defaultOptions());
+        RedisConfig config = config("standalone", redis.getHost(), redis.getBindPort(), "");
+
+        LettuceConnectionFactory factory = started(config.connectionFactory(clientResources, null));
+        assertThat(factory.getClientConfiguration()).isInstanceOf(LettucePoolingClientConfiguration.class);
+        StringRedisTemplate template = new StringRedisTemplate(factory);
+        RedisTokenStore store = store(template, template);
+
+        // 풀 크기보다 많은 스레드가 동시에 파이프라인을 보내도 모두 처리된다
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String username = "user" + i;
+                String jti = String.valueOf(i);
+                futures.add(executor.submit(() -> {
+                    store.saveRefreshToken(username, "refresh-" + username, TTL);
+                    store.revoke(jti, EXPIRES_AT, username);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(store.isBlacklisted(String.valueOf(i), EXPIRES_AT)).isTrue();
+            assertThat(store.matchesRefreshToken("user" + i, "refresh-user" + i)).isFalse();
+        }
+        // 200건이 만료 버킷 키 하나에 모인다
+        assertThat(template.keys("*")).containsExactly(BUCKET_KEY);
+        assertThat(template.opsForSet().size(BUCKET_KEY)).isEqualTo(200);
+        assertThat(template.getExpire(BUCKET_KEY, TimeUnit.MILLISECONDS)).isPositive();
+    }
+
+    @Test
+    void sentinel은_마스터에_쓰고_토큰_조회는_복제본에서_읽는다() throws Exception {
+        AtomicInteger replicaReads = new AtomicInteger();
+        RedisServer master = start(ServiceOptions.defaultOptions());
+        RedisServer replica = start(ServiceOptions.withInterceptor((state, name, params) -> {
+            if (name.equalsIgnoreCase("sismember") || name.equalsIgnoreCase("get")) {
+                replicaReads.incrementAndGet();
+            }
+            return MockExecutor.proceed(state, name, params);
+        }));
+        RedisServer sentinel = start(ServiceOptions.withInterceptor((state, name, params) ->
+                name.equalsIgnoreCase("sentinel")
+                        ? sentinelReply(params.get(0).toString(), master, replica)
+                        : MockExecutor.proceed(state, name, params)));
+
+        RedisConfig config = config("sentinel", "unused", 0, sentinel.getHost() + ":" + sentinel.getBindPort());
+        StringRedisTemplate primary = new StringRedisTemplate(started(config.connectionFactory(clientResources, null)));
+        StringRedisTemplate replicaPreferred = new StringRedisTemplate(
+                started(config.connectionFactory(clientResources, ReadFrom.REPLICA_PREFERRED)));
+        // 로컬 스냅샷이 답하지 않도록 쓰는 인스턴스와 읽는 인스턴스를 나눈다
+        RedisTokenStore store = store(primary, replicaPreferred);
+        RedisTokenStore reader = store(primary, replicaPreferred);
+        StringRedisTemplate masterDirect = direct(master);
+        StringRedisTemplate replicaDirect = direct(replica);
+
+        // 쓰기(리프레시 저장, 로그아웃 파이프라인)는 센티널이 알려준 마스터로 간다
+        store.saveRefreshToken("kim", "refresh-kim", TTL);
+        store.revoke("1", EXPIRES_AT, "lee");
+        assertThat(masterDirect.hasKey("rt:kim")).isTrue();
+        assertThat(masterDirect.hasKey(BUCKET_KEY)).isTrue();
+        assertThat(replicaDirect.hasKey(BUCKET_KEY)).isFalse();
+
+        // 조회는 복제본에서 읽는다 (복제본에만 있는 값이 보인다)
+        RedisTokenStore replicaWriter = store(replicaDirect, replicaDirect);
+        replicaWriter.revoke("2", EXPIRES_AT, "nobody");
+        replicaWriter.saveRefreshToken("park", "refresh-park", TTL);
+        int readsBefore = replicaReads.get();
+
+        assertThat(reader.isBlacklisted("2", EXPIRES_AT)).isTrue();
+        assertThat(reader.matchesRefreshToken("park", "refresh-park")).isTrue();
+        assertThat(reader.isBlacklisted("1", EXPIRES_AT)).isFalse();
+        assertThat(replicaReads.get() - readsBefore).isEqualTo(3);
+    }
+
+    @Test
+    void cluster는_슬롯이_다른_키도_파이프라인으로_처리한다() throws Exception {
+        RedisServer node = start(ServiceOptions.defaultOptions().withClusterModeEnabled());
+        RedisConfig config = config("cluster", "unused", 0, node.getHost() + ":" + node.getBindPort());
+
+        StringRedisTemplate primary = new StringRedisTemplate(started(config.connectionFactory(clientResources, null)));
+        StringRedisTemplate replicaPreferred = new StringRedisTemplate(
+                started(config.connectionFactory(clientResources, ReadFrom.REPLICA_PREFERRED)));
+        RedisTokenStore store = store(primary, replicaPreferred);
+        RedisTokenStore reader = store(primary, replicaPreferred);
+
+        store.saveRefreshToken("kim", "refresh-kim", TTL);
+        assertThat(store.matchesRefreshToken("kim", "refresh-kim")).isTrue();
+
+        // bl:{버킷}과 rt:{username}은 다른 슬롯이다 (복제본이 없으면 마스터에서 읽는다)
+        store.revoke("1", EXPIRES_AT, "kim");
+        assertThat(reader.isBlacklisted("1", EXPIRES_AT)).isTrue();
+        assertThat(reader.matchesRefreshToken("kim", "refresh-kim")).isFalse();
+    }
+
+    @Test
+    void sentinel과_cluster는_노드_목록이_필요하다() {
+        assertThatThrownBy(() -> config("cluster", "localhost", 6379, " "))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(config("STANDALONE", "localhost", 6379, "")).isNotNull();
+    }
+
+    private RedisServer start(ServiceOptions options) throws IOException {
+        RedisServer server = RedisServer.newRedisServer().setOptions(options).start();
+        servers.add(server);
+        return server;
+    }
+
+    private LettuceConnectionFactory started(LettuceConnectionFactory factory) {
+        factory.afterPropertiesSet();
+        factory.start();
+        factories.add(factory);
+        return factory;
+    }
+
+    private StringRedisTemplate direct(RedisServer server) {
+        return new StringRedisTemplate(started(new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(server.getHost(), server.getBindPort()))));
+    }
+
+    private static RedisConfig config(String topology, String host, int port, String nodes) {
+        return new RedisConfig(topology, host, port, "", nodes, "mymaster", 4, 0, 10_000, 30_000, 5_000, 1_000);
+    }
+
+    private static RedisTokenStore store(StringRedisTemplate primary, StringRedisTemplate replica) {
+        return new RedisTokenStore(primary, replica, new AuthMetrics(new SimpleMeterRegistry()),
+                CircuitBreaker.ofDefaults("redis"), new BlacklistSnapshot(1_000), "open", 60, false);
+    }
+
+    /**
+     * 센티널 명령 응답 (마스터 주소, 마스터/복제본 상태)
+     */
+    private static Slice sentinelReply(String subcommand, RedisServer master, RedisServer replica) {
+        return switch (subcommand.toLowerCase()) {
+            case "get-master-addr-by-name" -> Response.array(bulk(master.getHost()), bulk(String.valueOf(master.getBindPort())));
+            case "master" -> node(master, "master");
+            case "replicas", "slaves" -> Response.array(node(replica, "slave"));
+            default -> Response.error("ERR unsupported sentinel subcommand " + subcommand);
+        };
+    }
+
+    private static Slice node(RedisServer server, String flags) {
+        return Response.array(
+                bulk("name"), bulk(server.getHost() + ":" + server.getBindPort()),
+                bulk("ip"), bulk(server.getHost()),
+                bulk("port"), bulk(String.valueOf(server.getBindPort())),
+                bulk("flags"), bulk(flags));
+    }
+
+    private static Slice bulk(String value) {
+        return Response.bulkString(Slice.create(value));
+    }
+}
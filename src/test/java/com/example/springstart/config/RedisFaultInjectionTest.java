@@ -0,0 +1,220 @@
+package com.example.springstart.config;
+
+import com.example.springstart.domain.common.exception.ApiException;
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import com.example.springstart.domain.user.jwt.BlacklistSnapshot;
+import com.example.springstart.domain.user.jwt.RedisTokenStore;
+import com.example.springstart.domain.user.metrics.AuthMetrics;
+import com.example.springstart.support.TcpFaultProxy;
+import com.github.fppt.jedismock.RedisServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Redis 장애 주입 테스트
+ * - jedis-mock 앞에 TcpFaultProxy를 두고 지연/무응답/연결 끊김 상태에서 블랙리스트 조회 지연(p50/p99/max)을 잰다.
+ * - 명령 타임아웃과 서킷 브레이커 덕분에 어떤 장애에서도 조회 지연이 명령 타임아웃 근처로 묶이는지 확인한다.
+ */
+class RedisFaultInjectionTest {
+
+    private static final long COMMAND_TIMEOUT_MS = 50;
+    private static final long OPEN_DURATION_MS = 500;
+    private static final long TTL = 60_000;
+    private static final long EXPIRES_AT = System.currentTimeMillis() + TTL * 10;
+
+    private final ClientResources clientResources = ClientResources.create();
+    private final List<LettuceConnectionFactory> factories = new ArrayList<>();
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    private RedisServer redisServer;
+    private TcpFaultProxy proxy;
+    private RedisConfig config;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redisServer = RedisServer.newRedisServer().start();
+        proxy = new TcpFaultProxy(redisServer.getHost(), redisServer.getBindPort());
+        config = new RedisConfig("standalone", proxy.getHost(), proxy.getPort(), "", "", "mymaster",
+                4, 0, 200, 30_000, COMMAND_TIMEOUT_MS, 200);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        containers.forEach(RedisMessageListenerContainer::stop);
+        factories.forEach(LettuceConnectionFactory::destroy);
+        clientResources.shutdown(0, 1, TimeUnit.SECONDS);
+        proxy.close();
+        if (redisServer.isRunning()) {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    void 장애_모드별_블랙리스트_조회_지연은_명령_타임아웃_안으로_묶인다() {
+        CircuitBreaker breaker = breaker();
+        StringRedisTemplate template = template();
+        RedisTokenStore store = store(template, breaker, new BlacklistSnapshot(1_000), "open");
+
+        Latency healthy = measure("healthy", store, breaker, 2_000);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(healthy.p99Millis()).isLessThan(COMMAND_TIMEOUT_MS);
+
+        // 타임아웃보다 짧은 지연: Redis 응답을 그대로 기다린다
+        proxy.latency(10);
+        Latency slow = measure("latency 10ms", store, breaker, 100);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(slow.p50Millis()).isGreaterThanOrEqualTo(10);
+        assertThat(slow.p99Millis()).isLessThan(COMMAND_TIMEOUT_MS);
+
+        // 타임아웃보다 긴 지연, 무응답, 연결 끊김: 처음 몇 건만 타임아웃까지 기다리고 이후는 서킷이 바로 끊는다
+        proxy.latency(300);
+        assertDegraded(measure("latency 300ms", store, breaker, 2_000), breaker);
+
+        proxy.blackhole();
+        assertDegraded(measure("blackhole", store, breaker, 2_000), breaker);
+
+        proxy.drop();
+        assertDegraded(measure("connection drop", store, breaker, 2_000), breaker);
+
+        // 복구: 대기 시간이 지나면 반열림 상태에서 시험 호출이 성공해 다시 닫힌다
+        proxy.pass();
+        await().atMost(Duration.ofSeconds(20)).pollInterval(Duration.ofMillis(50)).untilAsserted(() -> {
+            store.isBlacklisted("0", EXPIRES_AT);
+            assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        });
+        measure("recovered", store, breaker, 2_000);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 장애_중에도_다른_인스턴스에서_로그아웃한_토큰은_로컬_스냅샷으로_차단한다() {
+        StringRedisTemplate template = template();
+        RedisTokenStore instanceA = store(template, breaker(), subscribed(new BlacklistSnapshot(1_000)), "open");
+        BlacklistSnapshot snapshotB = subscribed(new BlacklistSnapshot(1_000));
+        RedisTokenStore instanceB = store(template, breaker(), snapshotB, "open");
+
+        instanceA.saveRefreshToken("kim", "refresh-kim", TTL);
+        instanceA.revoke("1", EXPIRES_AT, "kim");
+        await().atMost(Duration.ofSeconds(5)).until(() -> snapshotB.contains("1"));
+
+        proxy.drop();
+
+        // fail-open: 스냅샷에 있는 토큰만 차단하고, 모르는 토큰은 통과시킨다
+        assertThat(instanceB.isBlacklisted("1", EXPIRES_AT)).isTrue();
+        assertThat(instanceB.isBlacklisted("2", EXPIRES_AT)).isFalse();
+
+        // 리프레시 토큰 조회/저장, 로그아웃은 503
+        assertUnavailable(() -> instanceB.matchesRefreshToken("kim", "refresh-kim"));
+        assertUnavailable(() -> instanceB.saveRefreshToken("lee", "refresh-lee", TTL));
+        // 장애 중 로그아웃한 토큰도 로그아웃을 처리한 인스턴스에서는 바로 차단된다
+        assertUnavailable(() -> instanceB.revoke("3", EXPIRES_AT, "lee"));
+        assertThat(instanceB.isBlacklisted("3", EXPIRES_AT)).isTrue();
+    }
+
+    @Test
+    void fail_closed_정책은_Redis를_쓸_수_없으면_모르는_토큰도_차단한다() {
+        RedisTokenStore store = store(template(), breaker(), new BlacklistSnapshot(1_000), "closed");
+        assertThat(store.isBlacklisted("2", EXPIRES_AT)).isFalse();
+
+        proxy.blackhole();
+
+        assertThat(store.isBlacklisted("2", EXPIRES_AT)).isTrue();
+    }
+
+    @Test
+    void Redis가_꺼져_있어도_구독_컨테이너_시작은_실패하지_않고_복구되면_다시_구독한다() {
+        StringRedisTemplate template = template();
+        proxy.drop();
+        BlacklistSnapshot snapshot = subscribed(new BlacklistSnapshot(1_000));
+
+        proxy.pass();
+        RedisTokenStore store = store(template, breaker(), new BlacklistSnapshot(1_000), "open");
+        await().atMost(Duration.ofSeconds(20)).pollInterval(Duration.ofMillis(200)).until(() -> {
+            store.revoke("4", EXPIRES_AT, "kim");
+            return snapshot.contains("4");
+        });
+    }
+
+    private void assertDegraded(Latency latency, CircuitBreaker breaker) {
+        assertThat(breaker.getState()).isNotEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(latency.p99Millis()).isLessThan(COMMAND_TIMEOUT_MS);
+        // 한 건도 타임아웃을 크게 넘겨 기다리지 않는다 (재연결 대기나 명령 적체 없음)
+        assertThat(latency.maxMillis()).isLessThan(COMMAND_TIMEOUT_MS * 10);
+    }
+
+    private static void assertUnavailable(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(ApiException.class)
+                .extracting(e -> ((ApiException) e).getExceptionMessage())
+                .isEqualTo(ExceptionMessage.TOKEN_STORE_UNAVAILABLE);
+    }
+
+    private CircuitBreaker breaker() {
+        return config.redisCircuitBreaker(new SimpleMeterRegistry(), 50, 20, 10, OPEN_DURATION_MS, 3);
+    }
+
+    private StringRedisTemplate template() {
+        LettuceConnectionFactory factory = config.connectionFactory(clientResources, null);
+        factory.afterPropertiesSet();
+        factory.start();
+        factories.add(factory);
+        return new StringRedisTemplate(factory);
+    }
+
+    private BlacklistSnapshot subscribed(BlacklistSnapshot snapshot) {
+        RedisMessageListenerContainer container = new RetryingMessageListenerContainer(200);
+        container.setConnectionFactory(factories.get(0));
+        container.addMessageListener(snapshot, new ChannelTopic(RedisTokenStore.BLACKLIST_CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+        return snapshot;
+    }
+
+    private static RedisTokenStore store(StringRedisTemplate template, CircuitBreaker breaker,
+                                         BlacklistSnapshot snapshot, String failurePolicy) {
+        return new RedisTokenStore(template, template, new AuthMetrics(new SimpleMeterRegistry()),
+                breaker, snapshot, failurePolicy, 60, false);
+    }
+
+    /**
+     * 블랙리스트 조회를 calls번 호출해 지연 분포를 기록하고 출력하는 메서드 (서킷은 측정 전에 닫힌 상태로 되돌린다)
+     */
+    private static Latency measure(String mode, RedisTokenStore store, CircuitBreaker breaker, int calls) {
+        breaker.reset();
+        long[] nanos = new long[calls];
+        for (int i = 0; i < calls; i++) {
+            long start = System.nanoTime();
+            store.isBlacklisted(String.valueOf(i), EXPIRES_AT);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        Latency latency = new Latency(
+                nanos[calls / 2] / 1e6,
+                nanos[(int) Math.ceil(calls * 0.99) - 1] / 1e6,
+                nanos[calls - 1] / 1e6);
+        System.out.printf("[redis fault] %-16s calls=%5d p50=%7.3fms p99=%7.3fms max=%8.3fms breaker=%s%n",
+                mode, calls, latency.p50Millis(), latency.p99Millis(), latency.maxMillis(), breaker.getState());
+        return latency;
+    }
+
+    private record Latency(double p50Millis, double p99Millis, double maxMillis) {
+    }
+}
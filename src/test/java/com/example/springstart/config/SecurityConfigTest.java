@@ -0,0 +1,356 @@
+package com.example.springstart.config;
+
+import com.example.springstart.controller.AdminController;
+import com.example.springstart.controller.AdminExportController;
+import com.example.springstart.controller.AdminProfilingController;
+import com.example.springstart.controller.AuthController;
+import com.example.springstart.controller.UserController;
+import com.example.springstart.domain.common.exception.handler.ErrorResponseWriter;
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import com.example.springstart.domain.common.profiling.JfrRecordingService;
+import com.example.springstart.domain.user.dto.BulkResponseDto;
+import com.example.springstart.domain.user.dto.CustomUserDetails;
+import com.example.springstart.domain.user.entity.User;
+import com.example.springstart.domain.user.entity.UserRoleType;
+import com.example.springstart.domain.user.export.UserExportFormat;
+import com.example.springstart.domain.user.export.UserExportService;
+import com.example.springstart.domain.user.jwt.JwtTokenProvider;
+import com.example.springstart.domain.user.jwt.PublicPaths;
+import com.example.springstart.domain.user.metrics.AuthMetrics;
+import com.example.springstart.domain.user.service.AdminUserService;
+import com.example.springstart.domain.user.service.AuthService;
+import com.example.springstart.domain.user.service.UserService;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = {AuthController.class, UserController.class, AdminController.class, AdminExportController.class,
+        AdminProfilingController.class})
+@Import({SecurityConfig.class, AuthMetrics.class, ErrorResponseWriter.class})
+class SecurityConfigTest {
+
+    private static final String TOKEN = "access-token";
+
+    @TestConfiguration
+    static class ObservabilityConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObservationRegistry observationRegistry() {
+            return ObservationRegistry.NOOP;
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private AuthService authService;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private AdminUserService adminUserService;
+
+    @MockitoBean
+    private UserExportService userExportService;
+
+    @MockitoBean
+    private JfrRecordingService jfrRecordingService;
+
+    @BeforeEach
+    void setUp() {
+        given(jwtTokenProvider.resolveToken(any())).willCallRealMethod();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/join", "/login", "/logout", "/refresh"})
+    void 공개_인증_경로는_JWT_필터를_건너뛴다(String path) throws Exception {
+        mockMvc.perform(post(path)
+                .header("Authorization", "Bearer " + TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"));
+
+        verify(jwtTokenProvider, never()).resolveToken(any());
+        verify(jwtTokenProvider, never()).validateToken(anyString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/swagger-ui.html", "/swagger-ui/index.html", "/v3/api-docs", "/api-docs/swagger-config"})
+    void 문서_경로는_인증_없이_JWT_필터를_건너뛴다(String path) throws Exception {
+        int status = mockMvc.perform(get(path).header("Authorization", "Bearer " + TOKEN))
+                .andReturn().getResponse().getStatus();
+
+        assertThat(status).isNotIn(401, 403);
+        verify(jwtTokenProvider, never()).resolveToken(any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/ban", "/unlock", "/delete", "/updatePassword", "/users", "/admin/anything"})
+    void 보호된_경로는_토큰이_없으면_401(String path) throws Exception {
+        mockMvc.perform(post(path).contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value(401))
+                .andExpect(jsonPath("$.status").value("UNAUTHORIZED"));
+    }
+
+    @Test
+    void 보호된_경로는_블랙리스트_토큰이면_401() throws Exception {
+        given(jwtTokenProvider.validateToken(TOKEN)).willReturn(true);
+        given(jwtTokenProvider.isBlacklisted(TOKEN)).willReturn(true);
+        given(jwtTokenProvider.hasRole(TOKEN)).willReturn(true);
+
+        mockMvc.perform(post("/unlock")
+                        .header("Authorization", "Bearer " + TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"user\"}"))
+                .andExpect(status().isUnauthorized());
+
+        verify(jwtTokenProvider, never()).getAuthentication(anyString());
+    }
+
+    @Test
+    void 보호된_경로는_위조되거나_만료된_토큰이면_401() throws Exception {
+        given(jwtTokenProvider.validateToken(TOKEN)).willThrow(new MalformedJwtException("bad token"));
+
+        mockMvc.perform(post("/unlock")
+                        .header("Authorization", "Bearer " + TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"user\"}"))
+                .andExpect(status().isUnauthorized());
+
+        verify(jwtTokenProvider, never()).getAuthentication(anyString());
+    }
+
+    private void authenticateAs(UserRoleType role) {
+        User user = User.builder()
+                .username("user")
+                .password("encoded")
+                .role(role)
+                .email("user@example.com")
+                .build();
+        user.prePersist();
+        CustomUserDetails principal = CustomUserDetails.from(user);
+
+        given(jwtTokenProvider.validateToken(TOKEN)).willReturn(true);
+        given(jwtTokenProvider.isBlacklisted(TOKEN)).willReturn(false);
+        given(jwtTokenProvider.hasRole(TOKEN)).willReturn(true);
+        given(jwtTokenProvider.getAuthentication(TOKEN)).willReturn(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Test
+    void 밴된_사용자는_유효한_토큰이어도_403() throws Exception {
+        CustomUserDetails principal = new CustomUserDetails(1L, "admin", UserRoleType.ADMIN, true, 0);
+        given(jwtTokenProvider.validateToken(TOKEN)).willReturn(true);
+        given(jwtTokenProvider.isBlacklisted(TOKEN)).willReturn(false);
+        given(jwtTokenProvider.hasRole(TOKEN)).willReturn(true);
+        given(jwtTokenProvider.getAuthentication(TOKEN)).willReturn(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        mockMvc.perform(post("/admin/users/ban")
+                        .header("Authorization", "Bearer " + TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"usernames\":[\"a\"],\"ban\":true}"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value(ExceptionMessage.USER_BANNED.getMessage()));
+
+        verify(adminUserService, never()).banUsers(any());
+    }
+
+    @Test
+    void 관리자_경로는_USER_권한이면_403() throws Exception {
+        authenticateAs(UserRoleType.USER);
+
+        mockMvc.perform(post("/admin/users/ban")
+                        .header("Authorization", "Bearer " + TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"usernames\":[\"a\"],\"ban\":true}"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value(403))
+                .andExpect(jsonPath("$.status").value("FORBIDDEN"));
+
+        verify(adminUserService, never()).banUsers(any());
+    }
+
+    @Test
+    void 관리자_경로는_ADMIN_권한이면_허용된다() throws Exception {
+        authenticateAs(UserRoleType.ADMIN);
+        given(adminUserService.banUsers(any())).willReturn(new BulkResponseDto(1, 1));
+
+        mockMvc.perform(post("/admin/users/ban")
+                        .header("Authorization", "Bearer " + TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"usernames\":[\"a\"],\"ban\":true}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void 내보내기는_비동기_디스패치에서도_인가를_통과해_끝까지_응답한다() throws Exception {
+        authenticateAs(UserRoleType.ADMIN);
+        given(userExportService.export(any(), eq(UserExportFormat.CSV))).willAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("username,email\n".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/admin/users/export")
+                        .param("format", "CSV")
+                        .header("Authorization", "Bearer " + TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("username,email\n"));
+    }
+
+    @Test
+    void 내보내기는_USER_권한이면_비동기_처리를_시작하지_않고_403() throws Exception {
+        authenticateAs(UserRoleType.USER);
+
+        mockMvc.perform(get("/admin/users/export").header("Authorization", "Bearer " + TOKEN))
+                .andExpect(status().isForbidden())
+                .andExpect(request().asyncNotStarted());
+
+        verify(userExportService, never()).export(any(), any());
+    }
+
+    @Test
+    void JFR_녹화_파일은_ADMIN이면_비동기로_끝까지_내려받는다(@TempDir Path directory) throws Exception {
+        Path recording = Files.write(directory.resolve("recording.jfr"), new byte[]{1, 2, 3});
+        given(jfrRecordingService.stop()).willReturn(recording);
+        authenticateAs(UserRoleType.ADMIN);
+
+        MvcResult result = mockMvc.perform(post("/admin/profiling/jfr/stop").header("Authorization", "Bearer " + TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(new byte[]{1, 2, 3}));
+        assertThat(recording).doesNotExist();
+    }
+
+    @Test
+    void JFR_녹화_경로는_USER_권한이면_403() throws Exception {
+        authenticateAs(UserRoleType.USER);
+
+        mockMvc.perform(post("/admin/profiling/jfr/stop").header("Authorization", "Bearer " + TOKEN))
+                .andExpect(status().isForbidden())
+                .andExpect(request().asyncNotStarted());
+        mockMvc.perform(post("/admin/profiling/jfr/start").header("Authorization", "Bearer " + TOKEN))
+                .andExpect(status().isForbidden());
+
+        verify(jfrRecordingService, never()).stop();
+        verify(jfrRecordingService, never()).start(any());
+    }
+
+    @Test
+    void 프로메테우스_경로는_토큰이_없으면_401_USER_권한이면_403() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+
+        authenticateAs(UserRoleType.USER);
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + TOKEN))
+                .andExpect(status().isForbidden());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/ban", "/unlock", "/delete"})
+    void 단건_관리_경로는_USER_권한이면_403(String path) throws Exception {
+        authenticateAs(UserRoleType.USER);
+
+        mockMvc.perform(post(path)
+                        .header("Authorization", "Bearer " + TOKEN)
+                        .param("username", "victim")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"victim\",\"ban\":true}"))
+                .andExpect(status().isForbidden());
+
+        verify(authService, never()).banUser(any());
+        verify(authService, never()).unlockUser(any());
+        verify(userService, never()).deleteUser(anyString());
+    }
+
+    @Test
+    void 비밀번호_변경은_USER_권한으로_허용된다() throws Exception {
+        authenticateAs(UserRoleType.USER);
+
+        mockMvc.perform(post("/updatePassword")
+                        .header("Authorization", "Bearer " + TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"user\",\"currentPassword\":\"old-pass\","
+                                + "\"newPassword\":\"new-pass\",\"confirmPassword\":\"new-pass\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void 보호된_경로는_유효한_토큰이면_인증된다() throws Exception {
+        authenticateAs(UserRoleType.ADMIN);
+
+        mockMvc.perform(post("/unlock")
+                        .header("Authorization", "Bearer " + TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"user\"}"))
+                .andExpect(status().isOk());
+
+        verify(jwtTokenProvider).getAuthentication(TOKEN);
+    }
+
+    @Test
+    void 공개_경로_매처() {
+        assertThat(PublicPaths.matches("/login")).isTrue();
+        assertThat(PublicPaths.matches("/swagger-ui/index.html")).isTrue();
+        assertThat(PublicPaths.matches("/api-docs")).isTrue();
+        assertThat(PublicPaths.matches("/actuator/health/liveness")).isTrue();
+        assertThat(PublicPaths.matches("/actuator/prometheus")).isFalse();
+        assertThat(PublicPaths.matches("/unlock")).isFalse();
+        assertThat(PublicPaths.matches("/login/other")).isFalse();
+        assertThat(PublicPaths.matches("/")).isFalse();
+    }
+}
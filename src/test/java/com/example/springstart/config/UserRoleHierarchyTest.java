@@ -0,0 +1,66 @@
+package com.example.springstart.config;
+
+import com.example.springstart.domain.user.entity.UserRoleType;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
+import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserRoleHierarchyTest {
+
+    private final RoleHierarchy hierarchy = new UserRoleHierarchy();
+
+    private static List<String> names(Collection<? extends GrantedAuthority> authorities) {
+        return AuthorityUtils.authorityListToSet(authorities).stream().sorted().toList();
+    }
+
+    @Test
+    void ADMIN은_USER를_포함한다() {
+        assertThat(names(hierarchy.getReachableGrantedAuthorities(UserRoleType.ADMIN.getAuthorities())))
+                .containsExactly("ROLE_ADMIN", "ROLE_USER");
+        assertThat(names(hierarchy.getReachableGrantedAuthorities(UserRoleType.USER.getAuthorities())))
+                .containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void 권한_목록은_미리_만든_같은_인스턴스다() {
+        assertThat(UserRoleType.ADMIN.getAuthorities()).isSameAs(UserRoleType.ADMIN.getAuthorities());
+        assertThat(UserRoleType.ADMIN.getAuthority()).isEqualTo("ROLE_ADMIN");
+        assertThat(hierarchy.getReachableGrantedAuthorities(UserRoleType.ADMIN.getAuthorities()))
+                .isSameAs(UserRoleType.ADMIN.getReachableAuthorities());
+        // 엔티티가 아닌 곳에서 만든 같은 문자열의 권한도 같은 결과를 돌려준다
+        assertThat(hierarchy.getReachableGrantedAuthorities(List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                .isSameAs(UserRoleType.ADMIN.getReachableAuthorities());
+    }
+
+    @Test
+    void 계층에_없는_권한은_그대로_둔다() {
+        List<GrantedAuthority> other = List.of(new SimpleGrantedAuthority("SCOPE_read"));
+        assertThat(hierarchy.getReachableGrantedAuthorities(other)).isSameAs(other);
+
+        List<GrantedAuthority> mixed = List.of(new SimpleGrantedAuthority("SCOPE_read"),
+                new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_USER"));
+        assertThat(names(hierarchy.getReachableGrantedAuthorities(mixed)))
+                .containsExactly("ROLE_ADMIN", "ROLE_USER", "SCOPE_read");
+        assertThat(hierarchy.getReachableGrantedAuthorities(List.of())).isEmpty();
+    }
+
+    @Test
+    void RoleHierarchyImpl과_같은_결과를_낸다() {
+        RoleHierarchy reference = RoleHierarchyImpl.withDefaultRolePrefix()
+                .role(UserRoleType.ADMIN.name()).implies(UserRoleType.USER.name())
+                .build();
+
+        for (UserRoleType role : UserRoleType.values()) {
+            assertThat(names(hierarchy.getReachableGrantedAuthorities(role.getAuthorities())))
+                    .isEqualTo(names(reference.getReachableGrantedAuthorities(role.getAuthorities())));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.springstart.config;
+
+import com.example.springstart.domain.user.jwt.JwtTokenProvider;
+import com.example.springstart.domain.user.jwt.RedisTokenStore;
+import com.example.springstart.domain.user.metrics.AuthMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class WarmUpRunnerTest {
+
+    @Test
+    void 토큰과_BCrypt_경로를_설정한_횟수만큼_호출하고_외부_저장소는_건드리지_않는다() throws Exception {
+        UserDetailsService userDetailsService = mock(UserDetailsService.class);
+        RedisTokenStore tokenStore = mock(RedisTokenStore.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                "warm-up-test-secret-key-must-be-at-least-32-bytes", userDetailsService, tokenStore,
+                new AuthMetrics(registry));
+        PasswordEncoder passwordEncoder = spy(new BCryptPasswordEncoder(4));
+
+        new WarmUpRunner(jwtTokenProvider, passwordEncoder, new ObjectMapper(), 20, 3)
+                .run(new DefaultApplicationArguments());
+
+        assertThat(registry.get("auth.token.sign").tag("type", "access").timer().count()).isEqualTo(20);
+        verify(passwordEncoder, times(1)).encode(anyString());
+        verify(passwordEncoder, times(3)).matches(anyString(), anyString());
+        verifyNoInteractions(userDetailsService, tokenStore);
+    }
+
+    @Test
+    void 지연_초기화에서_요청_경로_빈은_제외된다() {
+        LazyInitializationExcludeFilter filter = StartupConfig.servingPathBeans();
+
+        assertThat(filter.isExcluded("jwtTokenProvider", null, JwtTokenProvider.class)).isTrue();
+        assertThat(filter.isExcluded("redisConnectionFactory", null, RedisConnectionFactory.class)).isTrue();
+        assertThat(filter.isExcluded("objectMapper", null, ObjectMapper.class)).isFalse();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.springstart.controller;
+
+import com.example.springstart.domain.common.exception.handler.ErrorResponseWriter;
+import com.example.springstart.domain.user.export.UserExportFormat;
+import com.example.springstart.domain.user.export.UserExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 내보내기 요청에만 별도의 비동기 시간 제한이 걸리는지 확인한다. (전역 설정은 기본값 그대로)
+ */
+@WebMvcTest(controllers = AdminExportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(ErrorResponseWriter.class)
+@TestPropertySource(properties = "springboot.export.timeout-ms=12345")
+class AdminExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UserExportService userExportService;
+
+    @Test
+    void 내보내기는_자체_시간_제한으로_스트리밍한다() throws Exception {
+        given(userExportService.export(any(), eq(UserExportFormat.CSV))).willAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("username,email\nalice,a@example.com\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/admin/users/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(12345);
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.csv\""))
+                .andExpect(content().string("username,email\nalice,a@example.com\n"));
+    }
+}
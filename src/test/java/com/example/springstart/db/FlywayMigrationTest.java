@@ -0,0 +1,91 @@
+package com.example.springstart.db;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 운영 프로필과 같은 방식(Flyway 마이그레이션 + ddl-auto=validate)으로 스키마를 만들고 엔티티와 일치하는지 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flyway;MODE=MariaDB;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true",
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1"
+})
+class FlywayMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 빈_DB는_모든_마이그레이션을_적용하고_엔티티_검증을_통과한다() {
+        // ddl-auto=validate로 컨텍스트가 떴다면 엔티티와 스키마가 일치한다
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"success\" AND \"version\" IS NOT NULL ORDER BY \"installed_rank\"", String.class))
+                .containsExactly("1", "2", "3", "4", "5", "6");
+    }
+
+    @Test
+    void ddl_auto로_만들어진_기존_DB는_V1을_기준선으로_두고_이어서_적용한다() {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:existing;MODE=MariaDB;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate existing = new JdbcTemplate(dataSource);
+        // Flyway 도입 전 Hibernate(ddl-auto=update)가 만든 스키마: 이벤트 종류가 네이티브 ENUM
+        existing.execute("CREATE TABLE User (Banned BIT NOT NULL, passwordErrorCount INTEGER, createdAt DATETIME(6),"
+                + " id BIGINT NOT NULL AUTO_INCREMENT, updatedAt DATETIME(6), email VARCHAR(255) NOT NULL,"
+                + " password VARCHAR(255) NOT NULL, username VARCHAR(255) NOT NULL, role ENUM ('ADMIN','USER'),"
+                + " PRIMARY KEY (id))");
+        existing.execute("CREATE TABLE AuditLog (createdAt DATETIME(6) NOT NULL, id BIGINT NOT NULL, actor VARCHAR(255),"
+                + " detail VARCHAR(255), username VARCHAR(255) NOT NULL, type ENUM ('BAN','LOGOUT') NOT NULL, PRIMARY KEY (id))");
+        existing.update("INSERT INTO User (Banned, email, password, username, role) VALUES (FALSE, 'a@a', 'p', 'a', 'USER')");
+        // username 유일 인덱스가 없어 동시 가입으로 생긴 중복
+        existing.update("INSERT INTO User (Banned, email, password, username, role) VALUES (FALSE, 'a2@a', 'p', 'a', 'USER')");
+        existing.update("INSERT INTO AuditLog VALUES (CURRENT_TIMESTAMP, 1, NULL, NULL, 'a', 'BAN')");
+
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+        flyway.migrate();
+
+        // 버전이 없는 스키마 생성 기록은 제외하고 비교한다
+        assertThat(Arrays.stream(flyway.info().applied())
+                .map(MigrationInfo::getVersion)
+                .filter(Objects::nonNull)
+                .map(Object::toString))
+                .containsExactly("1", "2", "3", "4", "5", "6");
+        assertThat(existing.queryForList("SELECT username FROM User ORDER BY id", String.class))
+                .containsExactly("a", "a#2");
+        assertThat(existing.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES"
+                + " WHERE TABLE_NAME = 'USER' AND INDEX_NAME = 'UK_USER_USERNAME' AND INDEX_TYPE_NAME = 'UNIQUE INDEX'",
+                Long.class)).isEqualTo(1);
+        assertThatThrownBy(() -> existing.update(
+                "INSERT INTO User (id, Banned, email, password, username, role) VALUES (3, FALSE, 'b@a', 'p', 'a', 'USER')"))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThat(existing.queryForObject("SELECT type FROM AuditLog", String.class)).isEqualTo("BAN");
+        assertThat(existing.queryForObject("SELECT DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS"
+                + " WHERE TABLE_NAME = 'AUDITLOG' AND COLUMN_NAME = 'TYPE'", String.class))
+                .isEqualTo("CHARACTER VARYING");
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.springstart.domain.audit.bus;
+
+import com.example.springstart.domain.audit.entity.AuditEventType;
+import com.example.springstart.domain.audit.repository.AuditLogWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class AuditEventBusTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:audit-" + System.nanoTime() + ";MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE AuditLog (id BIGINT NOT NULL PRIMARY KEY, type VARCHAR(32) NOT NULL,"
+                + " username VARCHAR(255) NOT NULL, actor VARCHAR(255), detail VARCHAR(255), createdAt TIMESTAMP(6) NOT NULL)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private AuditEventBus bus(int bufferSize) {
+        return new AuditEventBus(new AuditLogWriter(jdbcTemplate), registry, bufferSize, 100, 5);
+    }
+
+    private double count(String result) {
+        return registry.get("audit.events").tag("result", result).counter().count();
+    }
+
+    @Test
+    void 발행한_이벤트를_배치로_저장하고_종료_시_남은_이벤트도_쓴다() {
+        AuditEventBus bus = bus(1024);
+        bus.start();
+        for (int i = 0; i < 250; i++) {
+            bus.publish(AuditEventType.LOGIN_FAILURE, "user" + (i % 5), "BAD_PASSWORD");
+        }
+        bus.publish(AuditEventType.LOGIN_SUCCESS, "user0", null);
+        bus.stop();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM AuditLog", Long.class)).isEqualTo(251);
+        assertThat(count("written")).isEqualTo(251);
+        List<String> types = jdbcTemplate.queryForList(
+                "SELECT type FROM AuditLog WHERE username = 'user0' ORDER BY id", String.class);
+        assertThat(types).hasSize(51).last().isEqualTo("LOGIN_SUCCESS");
+    }
+
+    @Test
+    void 버퍼가_가득_차면_버리고_센다() {
+        AuditEventBus bus = bus(2);
+
+        bus.publish(AuditEventType.LOGOUT, "a", null);
+        bus.publish(AuditEventType.LOGOUT, "b", null);
+        bus.publish(AuditEventType.LOGOUT, "c", null);
+
+        assertThat(count("published")).isEqualTo(2);
+        assertThat(count("dropped")).isEqualTo(1);
+        assertThat(registry.get("audit.buffer.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void 다른_사용자가_한_작업은_actor를_남긴다() {
+        AuditEventBus bus = bus(16);
+        bus.start();
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("admin", null, List.of()));
+
+        bus.publish(AuditEventType.BAN, "target", null);
+        bus.publish(AuditEventType.PASSWORD_CHANGE, "admin", null);
+        bus.stop();
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT username, actor FROM AuditLog ORDER BY id");
+        assertThat(rows).extracting(row -> row.get("USERNAME"), row -> row.get("ACTOR"))
+                .containsExactly(
+                        tuple("target", "admin"),
+                        tuple("admin", null));
+    }
+
+    @Test
+    void 트랜잭션_안에서_발행하면_커밋된_뒤에만_남는다() {
+        AuditEventBus bus = bus(16);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(
+                new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bus.publish(AuditEventType.BAN, "rolled-back", null);
+            assertThat(count("published")).isZero();
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            bus.publish(AuditEventType.DELETE, "committed", null);
+            assertThat(count("published")).isZero();
+        });
+        bus.start();
+        bus.stop();
+
+        assertThat(count("published")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT username FROM AuditLog", String.class))
+                .containsExactly("committed");
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.springstart.domain.audit.bus;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MpscRingBufferTest {
+
+    @Test
+    void 크기는_2의_거듭제곱으로_올린다() {
+        assertThat(new MpscRingBuffer<>(3).capacity()).isEqualTo(4);
+        assertThat(new MpscRingBuffer<>(1000).capacity()).isEqualTo(1024);
+        assertThat(new MpscRingBuffer<>(1024).capacity()).isEqualTo(1024);
+    }
+
+    @Test
+    void 가득_차면_offer가_실패하고_꺼내면_다시_넣을_수_있다() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        assertThat(buffer.poll()).isZero();
+        assertThat(buffer.offer(4)).isTrue();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 10)).isEqualTo(4);
+        assertThat(drained).containsExactly(1, 2, 3, 4);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    void 여러_생산자의_값을_빠짐없이_한_번씩_꺼낸다() throws Exception {
+        int producers = 4;
+        int perProducer = 50_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        rejected.incrementAndGet();
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        int[] lastPerProducer = new int[producers];
+        Arrays.fill(lastPerProducer, -1);
+        start.countDown();
+        while (seen.size() < producers * perProducer) {
+            Integer value = buffer.poll();
+            if (value == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            assertThat(seen.add(value)).isTrue();
+            // 같은 생산자의 값은 넣은 순서대로 나온다
+            int producer = value / perProducer;
+            assertThat(value).isGreaterThan(lastPerProducer[producer]);
+            lastPerProducer[producer] = value;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(buffer.poll()).isNull();
+    }
+}
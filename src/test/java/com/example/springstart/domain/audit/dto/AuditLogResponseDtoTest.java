@@ -0,0 +1,35 @@
+package com.example.springstart.domain.audit.dto;
+
+import com.example.springstart.domain.audit.entity.AuditEventType;
+import com.example.springstart.domain.audit.entity.AuditLog;
+import com.example.springstart.domain.common.id.SnowflakeIds;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditLogResponseDtoTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void Snowflake_id는_문자열로_직렬화되어_정밀도를_잃지_않는다() throws Exception {
+        long id = SnowflakeIds.next();
+        assertThat(id).isGreaterThan(1L << 53);
+        AuditLog auditLog = new AuditLog();
+        ReflectionTestUtils.setField(auditLog, "id", id);
+        ReflectionTestUtils.setField(auditLog, "type", AuditEventType.BAN);
+        ReflectionTestUtils.setField(auditLog, "username", "alice");
+        ReflectionTestUtils.setField(auditLog, "createdAt", LocalDateTime.of(2025, 1, 2, 3, 4, 5));
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(new AuditLogResponseDto(auditLog)));
+
+        assertThat(json.get("id").isTextual()).isTrue();
+        assertThat(Long.parseLong(json.get("id").asText())).isEqualTo(id);
+    }
+}
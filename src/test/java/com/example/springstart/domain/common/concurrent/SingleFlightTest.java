@@ -0,0 +1,108 @@
+package com.example.springstart.domain.common.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class SingleFlightTest {
+
+    private final Map<SingleFlight.Outcome, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 실행_중인_호출에_합류한_스레드는_같은_예외를_받는다() throws Exception {
+        SingleFlight<String, String> flight = flight(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        IllegalStateException failure = new IllegalStateException("db down");
+
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> flight.execute("kim", () -> {
+                calls.incrementAndGet();
+                block(release);
+                throw failure;
+            })));
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> count(SingleFlight.Outcome.LEADER) == 1);
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<String> future : futures) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(count(SingleFlight.Outcome.SHARED)).isEqualTo(7);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void 최대_대기_시간이_지나면_직접_실행한다() throws Exception {
+        SingleFlight<String, String> flight = flight(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.execute("kim", () -> {
+            block(release);
+            return "slow";
+        }));
+        await().atMost(Duration.ofSeconds(5)).until(() -> flight.inFlight() == 1);
+
+        long start = System.nanoTime();
+        assertThat(flight.execute("kim", () -> "own")).isEqualTo("own");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(count(SingleFlight.Outcome.TIMED_OUT)).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    @Test
+    void 결과를_보관하지_않고_키가_다르면_따로_실행한다() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(Duration.ofSeconds(1), outcome -> {
+        });
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(flight.execute("kim", calls::incrementAndGet)).isEqualTo(1);
+        assertThat(flight.execute("kim", calls::incrementAndGet)).isEqualTo(2);
+        assertThat(flight.execute("lee", calls::incrementAndGet)).isEqualTo(3);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    private <V> SingleFlight<String, V> flight(Duration maxWait) {
+        return new SingleFlight<>(maxWait, outcome -> outcomes.computeIfAbsent(outcome, o -> new LongAdder()).increment());
+    }
+
+    private long count(SingleFlight.Outcome outcome) {
+        LongAdder adder = outcomes.get(outcome);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private static void block(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
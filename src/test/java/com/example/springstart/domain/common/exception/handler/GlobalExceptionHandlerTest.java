@@ -0,0 +1,81 @@
+package com.example.springstart.domain.common.exception.handler;
+
+import com.example.springstart.domain.common.exception.ApiException;
+import com.example.springstart.domain.common.exception.AuthException;
+import com.example.springstart.domain.common.exception.dto.ApiErrorResponseDto;
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.MalformedJwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ErrorResponseWriter errorResponseWriter = new ErrorResponseWriter(objectMapper);
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(errorResponseWriter, 10_000);
+
+    @Test
+    void 인증_실패는_정의된_상태_코드로_응답한다() {
+        assertThat(handler.handleException(new AuthException(ExceptionMessage.INVALID_CREDENTIALS)).getStatusCode().value())
+                .isEqualTo(401);
+        assertThat(handler.handleException(new AuthException(ExceptionMessage.USER_BANNED)).getStatusCode().value())
+                .isEqualTo(403);
+        assertThat(handler.handleException(new ApiException(ExceptionMessage.USERNAME_DUPLICATED)).getStatusCode().value())
+                .isEqualTo(409);
+        assertThat(handler.handleException(new AuthException(ExceptionMessage.ACCOUNT_LOCKED)).getStatusCode().value())
+                .isEqualTo(429);
+
+        ResponseEntity<byte[]> response = handler.handleException(new MalformedJwtException("bad"));
+        assertThat(response.getStatusCode().value()).isEqualTo(401);
+        assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_JSON)).isTrue();
+    }
+
+    @Test
+    void 미리_만든_본문은_DTO_직렬화_결과와_같다() throws Exception {
+        for (ExceptionMessage message : ExceptionMessage.values()) {
+            String expected = objectMapper.writeValueAsString(new ApiErrorResponseDto(
+                    message.getStatus().value(), message.getStatus().name(), message.getMessage()));
+
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            errorResponseWriter.write(response, message);
+
+            assertThat(response.getStatus()).isEqualTo(message.getStatus().value());
+            assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(expected);
+            assertThat(response.getContentLength()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8).length);
+            assertThat(new String(errorResponseWriter.toResponseEntity(message).getBody(), StandardCharsets.UTF_8))
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void 예상된_실패는_스택_트레이스를_만들지_않는다() {
+        AuthException e = new AuthException(ExceptionMessage.INVALID_CREDENTIALS);
+
+        assertThat(e.getStackTrace()).isEmpty();
+        assertThat(e.getMessage()).isEqualTo(ExceptionMessage.INVALID_CREDENTIALS.getMessage());
+        assertThat(e).isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void 같은_종류의_실패는_간격마다_한_번만_로그를_남긴다() {
+        RateLimitedLog log = new RateLimitedLog(60_000);
+
+        int logged = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (log.record(ExceptionMessage.INVALID_CREDENTIALS)) {
+                logged++;
+            }
+        }
+
+        assertThat(logged).isEqualTo(1);
+        // 종류가 다르면 별도로 센다
+        assertThat(log.record(ExceptionMessage.USER_BANNED)).isTrue();
+    }
+}
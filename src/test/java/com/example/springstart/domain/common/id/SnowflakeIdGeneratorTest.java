@@ -0,0 +1,86 @@
+package com.example.springstart.domain.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH + 1_000_000L;
+
+    @Test
+    void 시각과_노드를_ID에서_꺼낼_수_있다() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(513, () -> NOW);
+
+        long id = generator.nextId();
+
+        assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(NOW);
+        assertThat(SnowflakeIdGenerator.nodeIdOf(id)).isEqualTo(513);
+    }
+
+    @Test
+    void 같은_밀리초에_4096개를_넘겨도_증가한다() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> NOW);
+
+        long prev = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(prev);
+            prev = id;
+        }
+        // 순번이 넘친 만큼 논리 시각이 앞당겨진다
+        assertThat(SnowflakeIdGenerator.timestampOf(prev)).isEqualTo(NOW + 10_000 / 4096);
+    }
+
+    @Test
+    void 시계가_뒤로_가도_증가한다() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+        long before = generator.nextId();
+        clock.set(NOW - 5_000L);
+        long after = generator.nextId();
+
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    void 여러_스레드에서도_겹치지_않는다() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(ids).hasSize(8 * 20_000);
+    }
+
+    @Test
+    void 노드_ID_범위를_검사한다() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
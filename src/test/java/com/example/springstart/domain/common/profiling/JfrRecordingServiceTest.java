@@ -0,0 +1,87 @@
+package com.example.springstart.domain.common.profiling;
+
+import com.example.springstart.domain.common.exception.ApiException;
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import com.example.springstart.domain.user.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class JfrRecordingServiceTest {
+
+    private final JfrRecordingService service = new JfrRecordingService("default", 2, 10);
+    private Path file;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        service.close();
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void 녹화_중_인증_구간_이벤트가_jfr_파일에_남는다() throws Exception {
+        AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+        service.start(Duration.ofSeconds(60));
+        assertThatThrownBy(() -> service.start(Duration.ofSeconds(1)))
+                .extracting(e -> ((ApiException) e).getExceptionMessage())
+                .isEqualTo(ExceptionMessage.PROFILING_ALREADY_RUNNING);
+
+        authMetrics.timeTokenParse(() -> "claims");
+        authMetrics.timeAccessTokenSign(() -> "access");
+        authMetrics.timePasswordMatch(() -> true);
+        authMetrics.timeRedisBlacklistCheck(() -> false);
+        authMetrics.timeRedisRevoke(() -> {
+        });
+        authMetrics.timeUserLookup(() -> "user");
+
+        file = service.stop();
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("com.example.springstart.auth."))
+                .toList();
+        Map<String, Long> counts = events.stream()
+                .collect(Collectors.groupingBy(event -> event.getEventType().getName(), Collectors.counting()));
+        assertThat(counts).containsOnly(
+                Map.entry("com.example.springstart.auth.TokenParse", 1L),
+                Map.entry("com.example.springstart.auth.TokenSign", 1L),
+                Map.entry("com.example.springstart.auth.PasswordVerify", 1L),
+                Map.entry("com.example.springstart.auth.Redis", 2L),
+                Map.entry("com.example.springstart.auth.UserLookup", 1L));
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().endsWith("Redis"))
+                .extracting(event -> event.getString("operation"))
+                .containsExactlyInAnyOrder("blacklist.check", "revoke");
+        assertThat(service.status()).isNull();
+    }
+
+    @Test
+    void 녹화_시간은_최대값으로_잘리고_지나면_자동으로_멈춘다() throws Exception {
+        JfrRecordingStatus status = service.start(Duration.ofHours(1));
+        assertThat(status.getDurationSeconds()).isEqualTo(2);
+        assertThat(status.getMaxSizeBytes()).isEqualTo(10L * 1024 * 1024);
+
+        await().atMost(Duration.ofSeconds(15)).until(() -> "STOPPED".equals(service.status().getState()));
+
+        // 자동으로 멈춘 녹화도 파일로 받을 수 있다
+        file = service.stop();
+        assertThat(Files.size(file)).isPositive();
+        assertThatThrownBy(service::stop)
+                .extracting(e -> ((ApiException) e).getExceptionMessage())
+                .isEqualTo(ExceptionMessage.PROFILING_NOT_RUNNING);
+    }
+}
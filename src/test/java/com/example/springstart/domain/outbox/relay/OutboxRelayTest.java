@@ -0,0 +1,171 @@
+package com.example.springstart.domain.outbox.relay;
+
+import com.github.fppt.jedismock.RedisServer;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.lettuce.core.resource.Delay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class OutboxRelayTest {
+
+    private static final String STREAM = "user-events";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private RedisServer redisServer;
+    private ClientResources clientResources;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redisServer = RedisServer.newRedisServer().start();
+        // Redis가 멈춘 동안의 명령이 Lettuce 기본 제한 시간(60초)을 기다리지 않도록 RedisConfig처럼 짧게 두고,
+        // 재시작한 Redis에 바로 다시 붙도록 재연결 간격을 고정한다
+        clientResources = DefaultClientResources.builder()
+                .reconnectDelay(Delay.constant(Duration.ofMillis(100)))
+                .build();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getBindPort()),
+                LettuceClientConfiguration.builder()
+                        .clientResources(clientResources)
+                        .commandTimeout(Duration.ofMillis(500))
+                        .build());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        jdbcTemplate = new JdbcTemplate(new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:outbox-" + System.nanoTime() + ";MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE OutboxEvent (id BIGINT NOT NULL PRIMARY KEY, aggregateId BIGINT NOT NULL,"
+                + " type VARCHAR(32) NOT NULL, username VARCHAR(255) NOT NULL, createdAt TIMESTAMP(6) NOT NULL)");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        clientResources.shutdown();
+        if (redisServer.isRunning()) {
+            redisServer.stop();
+        }
+    }
+
+    private OutboxRelay relay(int batchSize) {
+        return new OutboxRelay(jdbcTemplate, redisTemplate, registry, STREAM, batchSize, 1000, 5000);
+    }
+
+    private void insert(long id, long userId, String type) {
+        jdbcTemplate.update("INSERT INTO OutboxEvent VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)", id, userId, type, "user" + userId);
+    }
+
+    private List<MapRecord<String, Object, Object>> streamRecords() {
+        return redisTemplate.opsForStream().range(STREAM, Range.unbounded());
+    }
+
+    private long outboxCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM OutboxEvent", Long.class);
+    }
+
+    @Test
+    void id_순서대로_보내고_보낸_행은_지운다() {
+        // 입력 순서와 관계없이 id 순으로 보낸다
+        insert(30, 1, "USER_DELETED");
+        insert(10, 1, "USER_BANNED");
+        insert(20, 2, "PASSWORD_CHANGED");
+        for (long id = 100; id < 105; id++) {
+            insert(id, 3, "USER_UPDATED");
+        }
+
+        OutboxRelay relay = relay(2);
+        relay.relay();
+        relay.updateMetrics();
+
+        List<MapRecord<String, Object, Object>> records = streamRecords();
+        assertThat(records).extracting(record -> record.getValue().get("eventId"))
+                .containsExactly("10", "20", "30", "100", "101", "102", "103", "104");
+        assertThat(records.get(0).getValue())
+                .containsEntry("userId", "1")
+                .containsEntry("type", "USER_BANNED")
+                .containsEntry("username", "user1");
+        assertThat(outboxCount()).isZero();
+        assertThat(registry.get("outbox.published").counter().count()).isEqualTo(8);
+        assertThat(registry.get("outbox.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void Redis에_보내지_못하면_행을_남기고_다음에_다시_보낸다() throws Exception {
+        OutboxRelay relay = relay(10);
+        relay.relay();
+        insert(1, 1, "USER_BANNED");
+        insert(2, 1, "USER_UNBANNED");
+
+        int port = redisServer.getBindPort();
+        redisServer.stop();
+        relay.relay();
+        relay.updateMetrics();
+
+        assertThat(outboxCount()).isEqualTo(2);
+        assertThat(registry.get("outbox.publish.failures").counter().count()).isEqualTo(1);
+        assertThat(registry.get("outbox.pending").gauge().value()).isEqualTo(2);
+
+        // 같은 포트로 Redis를 다시 띄우면 (재연결될 때까지 다시 실행) 남은 행을 id 순으로 보낸다
+        redisServer = RedisServer.newRedisServer(port).start();
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            relay.relay();
+            assertThat(outboxCount()).isZero();
+        });
+        assertThat(streamRecords())
+                .extracting(record -> record.getValue().get("eventId"))
+                .containsExactly("1", "2");
+        relay.updateMetrics();
+        assertThat(registry.get("outbox.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void 다른_인스턴스가_리더이면_보내지_않는다() {
+        redisTemplate.opsForValue().set(OutboxRelay.LEADER_KEY, "other-instance");
+        insert(1, 1, "USER_BANNED");
+
+        OutboxRelay relay = relay(10);
+        relay.relay();
+        relay.updateMetrics();
+
+        assertThat(outboxCount()).isEqualTo(1);
+        assertThat(redisTemplate.hasKey(STREAM)).isFalse();
+        // 지연 메트릭은 리더만 조회해 보고한다
+        assertThat(registry.get("outbox.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void 만료된_리더_키를_다른_인스턴스가_잡았으면_연장하지_않는다() {
+        OutboxRelay relay = relay(10);
+        relay.relay();
+        // 리더 키가 만료되고 다른 인스턴스가 짧은 TTL로 잡은 상황
+        redisTemplate.opsForValue().set(OutboxRelay.LEADER_KEY, "other-instance", Duration.ofMillis(1000));
+        insert(1, 1, "USER_BANNED");
+
+        relay.relay();
+
+        assertThat(outboxCount()).isEqualTo(1);
+        assertThat(redisTemplate.opsForValue().get(OutboxRelay.LEADER_KEY)).isEqualTo("other-instance");
+        assertThat(redisTemplate.getExpire(OutboxRelay.LEADER_KEY, TimeUnit.MILLISECONDS)).isLessThanOrEqualTo(1000);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.springstart.domain.outbox.repository;
+
+import com.example.springstart.domain.outbox.entity.OutboxEventType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(OutboxEventWriter.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-writer;MODE=MariaDB;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class OutboxEventWriterTest {
+
+    @Autowired
+    private OutboxEventWriter outboxEventWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 트랜잭션_안에서_쓴다() {
+        outboxEventWriter.append(OutboxEventType.USER_BANNED, 1L, "user");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT type FROM OutboxEvent WHERE aggregateId = 1", String.class))
+                .isEqualTo("USER_BANNED");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void 트랜잭션_밖에서는_쓸_수_없다() {
+        assertThatThrownBy(() -> outboxEventWriter.append(OutboxEventType.USER_BANNED, 1L, "user"))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.springstart.domain.user.export;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 100만 건 내보내기를 작은 힙(gradle memoryTest, -Xmx64m)에서 실행한다.
+ * 결과를 메모리에 모았다면 수백 MB가 필요하므로 OOM으로 실패한다.
+ * in-memory DB는 데이터 자체가 힙을 차지하므로 파일 기반 H2를 사용한다.
+ */
+@Tag("memory")
+class UserExportMemoryTest {
+
+    private static final int ROWS = 1_000_000;
+
+    @Test
+    void 백만_건을_일정한_메모리로_내보낸다(@TempDir Path dir) throws Exception {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:file:" + dir.resolve("export") + ";MODE=MariaDB;NON_KEYWORDS=USER", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        UserExportTables.create(jdbcTemplate);
+        jdbcTemplate.update("INSERT INTO User (username, password, email, role, Banned, passwordErrorCount, createdAt)"
+                + " SELECT 'user' || X, 'hash', 'user' || X || '@example.com', 'USER', FALSE, 0, CURRENT_TIMESTAMP"
+                + " FROM SYSTEM_RANGE(1, " + ROWS + ")");
+
+        UserExportService userExportService = new UserExportService(jdbcTemplate, new DataSourceTransactionManager(dataSource), 1000);
+        CountingOutputStream out = new CountingOutputStream();
+
+        long exported = userExportService.export(out, UserExportFormat.NDJSON);
+
+        assertThat(exported).isEqualTo(ROWS);
+        assertThat(out.lines).isEqualTo(ROWS);
+        assertThat(out.bytes).isGreaterThan(100L * ROWS);
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.springstart.domain.user.export;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserExportServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private UserExportService userExportService;
+
+    @BeforeEach
+    void setUp() {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:export-" + System.nanoTime() + ";MODE=MariaDB;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        UserExportTables.create(jdbcTemplate);
+        userExportService = new UserExportService(jdbcTemplate, new DataSourceTransactionManager(dataSource), 2);
+    }
+
+    private String export(UserExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        userExportService.export(out, format);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void NDJSON은_한_줄에_한_사용자() throws Exception {
+        jdbcTemplate.update("INSERT INTO User (username, password, email, role, Banned, passwordErrorCount, createdAt)"
+                + " VALUES ('alice', 'hash', 'a@example.com', 'USER', FALSE, 1, TIMESTAMP '2025-01-02 03:04:05')");
+        jdbcTemplate.update("INSERT INTO User (username, password, email, role, Banned, passwordErrorCount)"
+                + " VALUES ('b\"ob', 'hash', 'b@example.com', 'ADMIN', TRUE, 0)");
+
+        assertThat(export(UserExportFormat.NDJSON)).isEqualTo("""
+                {"id":"1","username":"alice","email":"a@example.com","role":"USER","banned":false,"passwordErrorCount":1,"createdAt":"2025-01-02T03:04:05"}
+                {"id":"2","username":"b\\"ob","email":"b@example.com","role":"ADMIN","banned":true,"passwordErrorCount":0,"createdAt":null}
+                """);
+    }
+
+    @Test
+    void CSV는_필요한_값만_따옴표로_감싼다() throws Exception {
+        jdbcTemplate.update("INSERT INTO User (username, password, email, role, Banned, passwordErrorCount)"
+                + " VALUES ('a,\"b', 'hash', 'a@example.com', 'USER', FALSE, 0)");
+
+        assertThat(export(UserExportFormat.CSV)).isEqualTo("""
+                id,username,email,role,banned,passwordErrorCount,createdAt
+                1,"a,""b",a@example.com,USER,false,0,
+                """);
+    }
+
+    @Test
+    void 비밀번호는_내보내지_않는다() throws Exception {
+        jdbcTemplate.update("INSERT INTO User (username, password, email, role, Banned, passwordErrorCount)"
+                + " VALUES ('alice', 'secret-hash', 'a@example.com', 'USER', FALSE, 0)");
+
+        assertThat(export(UserExportFormat.NDJSON)).doesNotContain("secret-hash");
+        assertThat(export(UserExportFormat.CSV)).doesNotContain("secret-hash");
+    }
+
+    @Test
+    void 사용자가_없으면_빈_출력() throws Exception {
+        assertThat(export(UserExportFormat.NDJSON)).isEmpty();
+    }
+}
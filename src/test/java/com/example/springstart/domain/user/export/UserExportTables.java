@@ -0,0 +1,15 @@
+package com.example.springstart.domain.user.export;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+final class UserExportTables {
+
+    private UserExportTables() {
+    }
+
+    static void create(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE TABLE User (id BIGINT AUTO_INCREMENT PRIMARY KEY, username VARCHAR(255) NOT NULL,"
+                + " password VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL, role VARCHAR(16),"
+                + " Banned BOOLEAN NOT NULL, passwordErrorCount INT, createdAt TIMESTAMP, updatedAt TIMESTAMP)");
+    }
+}
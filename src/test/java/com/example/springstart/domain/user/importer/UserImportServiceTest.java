@@ -0,0 +1,137 @@
+package com.example.springstart.domain.user.importer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserImportServiceTest {
+
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    private JdbcTemplate jdbcTemplate;
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:import-" + System.nanoTime() + ";MODE=MariaDB;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE User (id BIGINT AUTO_INCREMENT PRIMARY KEY, username VARCHAR(255) NOT NULL UNIQUE,"
+                + " password VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL, role VARCHAR(16),"
+                + " Banned BOOLEAN NOT NULL, passwordErrorCount INT, createdAt TIMESTAMP, updatedAt TIMESTAMP)");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        userImportService = new UserImportService(jdbcTemplate, transactionTemplate, passwordEncoder, 2, 2);
+    }
+
+    private static InputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String passwordOf(String username) {
+        return jdbcTemplate.queryForObject("SELECT password FROM User WHERE username = ?", String.class, username);
+    }
+
+    @Test
+    void CSV를_가져오며_비밀번호를_해시한다() throws Exception {
+        UserImportResult result = userImportService.importUsers(input("""
+                email,username,password
+                a@example.com,alice,pass1234
+                "b,@example.com",bob,"pa""ss"
+                c@example.com,carol,secret
+                """), UserImportFormat.CSV, 0L, null);
+
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(passwordEncoder.matches("pass1234", passwordOf("alice"))).isTrue();
+        assertThat(passwordEncoder.matches("pa\"ss", passwordOf("bob"))).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT role FROM User WHERE username = 'carol'", String.class)).isEqualTo("USER");
+    }
+
+    @Test
+    void NDJSON의_해시된_비밀번호는_그대로_저장한다() throws Exception {
+        String hash = passwordEncoder.encode("legacy");
+
+        userImportService.importUsers(input("""
+                {"username":"alice","passwordHash":"%s","email":"a@example.com"}
+                {"username":"bob","password":"pass1234","email":"b@example.com","role":"ADMIN"}
+                """.formatted(hash)), UserImportFormat.NDJSON, 0L, null);
+
+        assertThat(passwordOf("alice")).isEqualTo(hash);
+        assertThat(jdbcTemplate.queryForObject("SELECT role FROM User WHERE username = 'bob'", String.class)).isEqualTo("ADMIN");
+    }
+
+    @Test
+    void 비밀번호의_앞뒤_공백은_그대로_두고_식별_컬럼만_공백을_지운다() throws Exception {
+        userImportService.importUsers(input("""
+                username,password,email
+                 alice ,"  pass 12  ", a@example.com\s
+                """), UserImportFormat.CSV, 0L, null);
+        userImportService.importUsers(input("""
+                {"username":" bob ","password":" pass12","email":"b@example.com"}
+                """), UserImportFormat.NDJSON, 0L, null);
+
+        assertThat(passwordEncoder.matches("  pass 12  ", passwordOf("alice"))).isTrue();
+        assertThat(passwordEncoder.matches("pass 12", passwordOf("alice"))).isFalse();
+        assertThat(passwordEncoder.matches(" pass12", passwordOf("bob"))).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT email FROM User WHERE username = 'alice'", String.class))
+                .isEqualTo("a@example.com");
+    }
+
+    @Test
+    void 중복과_잘못된_레코드는_건너뛴다() throws Exception {
+        jdbcTemplate.update("INSERT INTO User (username, password, email, role, Banned, passwordErrorCount) VALUES ('exists', 'x', 'e@example.com', 'USER', FALSE, 0)");
+
+        UserImportResult result = userImportService.importUsers(input("""
+                {"username":"alice","password":"pass1234","email":"a@example.com"}
+                {"username":"alice","password":"pass1234","email":"a@example.com"}
+                {"username":"exists","password":"pass1234","email":"e@example.com"}
+                {"username":"nomail","password":"pass1234"}
+                {"username":"badrole","password":"pass1234","email":"r@example.com","role":"ROOT"}
+                not json
+                """), UserImportFormat.NDJSON, 0L, null);
+
+        assertThat(result.getRead()).isEqualTo(6);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getDuplicates()).isEqualTo(2);
+        assertThat(result.getInvalid()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM User", Long.class)).isEqualTo(2);
+    }
+
+    @Test
+    void 체크포인트_이후부터_이어서_가져온다(@TempDir Path dir) throws Exception {
+        Path checkpoint = dir.resolve("users.csv.checkpoint");
+        Files.writeString(checkpoint, "2");
+
+        UserImportResult result = userImportService.importUsers(input("""
+                username,password,email
+                alice,pass1234,a@example.com
+                bob,pass1234,b@example.com
+                carol,pass1234,c@example.com
+                """), UserImportFormat.CSV, 0L, checkpoint);
+
+        assertThat(result.getRead()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT username FROM User", String.class)).containsExactly("carol");
+        assertThat(Files.readString(checkpoint)).isEqualTo("3");
+    }
+
+    @Test
+    void 형식은_파일_확장자로_정한다() {
+        assertThat(UserImportFormat.fromFileName("users.NDJSON")).isEqualTo(UserImportFormat.NDJSON);
+        assertThat(UserImportFormat.fromFileName("users.jsonl")).isEqualTo(UserImportFormat.NDJSON);
+        assertThat(UserImportFormat.fromFileName("users.csv")).isEqualTo(UserImportFormat.CSV);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.springstart.domain.user.jwt;
+
+import com.example.springstart.domain.common.exception.message.ExceptionMessage;
+import com.example.springstart.domain.user.dto.CustomUserDetails;
+import com.example.springstart.domain.user.entity.User;
+import com.example.springstart.domain.user.entity.UserRoleType;
+import com.example.springstart.support.InMemoryTracing;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class JwtAuthenticationFilterTest {
+
+    private final InMemoryTracing tracing = new InMemoryTracing();
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(jwtTokenProvider, tracing.observationRegistry());
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest requestAs(CustomUserDetails principal) {
+        given(jwtTokenProvider.resolveToken(any())).willCallRealMethod();
+        given(jwtTokenProvider.validateToken("token")).willReturn(true);
+        given(jwtTokenProvider.hasRole("token")).willReturn(true);
+        given(jwtTokenProvider.getAuthentication("token")).willReturn(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/unlock");
+        request.addHeader("Authorization", "Bearer token");
+        return request;
+    }
+
+    @Test
+    void 유효한_토큰이면_인증한다() throws Exception {
+        MockHttpServletRequest request = requestAs(new CustomUserDetails(1L, "user", UserRoleType.USER, false, 0));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        assertThat(request.getAttribute(JwtAuthenticationFilter.ACCOUNT_STATUS_ATTRIBUTE)).isNull();
+    }
+
+    @Test
+    void 밴된_사용자는_토큰이_유효해도_인증하지_않는다() throws Exception {
+        MockHttpServletRequest request = requestAs(new CustomUserDetails(1L, "user", UserRoleType.USER, true, 0));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(request.getAttribute(JwtAuthenticationFilter.ACCOUNT_STATUS_ATTRIBUTE))
+                .isEqualTo(ExceptionMessage.USER_BANNED);
+    }
+
+    @Test
+    void 잠긴_사용자는_토큰이_유효해도_인증하지_않는다() throws Exception {
+        MockHttpServletRequest request = requestAs(
+                new CustomUserDetails(1L, "user", UserRoleType.USER, false, User.MAX_PASSWORD_ERROR_COUNT + 1));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(request.getAttribute(JwtAuthenticationFilter.ACCOUNT_STATUS_ATTRIBUTE))
+                .isEqualTo(ExceptionMessage.ACCOUNT_LOCKED);
+    }
+
+    @Test
+    void 보호된_경로는_인증_구간_span을_남긴다() throws Exception {
+        given(jwtTokenProvider.resolveToken(any())).willCallRealMethod();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/unlock"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(tracing.finishedSpans())
+                .extracting(SpanData::getName)
+                .containsExactly("jwt-authentication");
+    }
+
+    @Test
+    void 공개_경로는_span을_남기지_않는다() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("POST", "/login"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(tracing.finishedSpans()).isEmpty();
+    }
+}
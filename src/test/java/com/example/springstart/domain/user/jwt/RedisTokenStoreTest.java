@@ -0,0 +1,201 @@
+package com.example.springstart.domain.user.jwt;
+
+import com.example.springstart.domain.user.metrics.AuthMetrics;
+import com.github.fppt.jedismock.RedisServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 키 구조 테스트 (jedis-mock)
+ * - 블랙리스트는 만료 버킷 SET에 jti 8바이트로, 리프레시 토큰은 SHA-256 32바이트로 저장되는지 확인한다.
+ * - 이전 구조(blacklist:&lt;jti&gt;, refresh:&lt;username&gt;)의 키는 legacy-layout-fallback이 켜져 있을 때만 인정한다.
+ */
+class RedisTokenStoreTest {
+
+    private static final long BUCKET_MILLIS = 60_000;
+    private static final long TTL = 60_000;
+    // 버킷 경계에서 떨어진 만료 시각 (버킷 안 30초 지점)
+    private static final long EXPIRES_AT = (System.currentTimeMillis() / BUCKET_MILLIS + 10) * BUCKET_MILLIS + 30_000;
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory factory;
+    private StringRedisTemplate template;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        redisServer = RedisServer.newRedisServer().start();
+        factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getBindPort()));
+        factory.afterPropertiesSet();
+        factory.start();
+        template = new StringRedisTemplate(factory);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        factory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void 블랙리스트는_만료_버킷_SET에_jti_8바이트로_저장하고_버킷이_끝나면_만료된다() {
+        RedisTokenStore store = store(false);
+        long jti = 123_456_789_012_345L;
+
+        store.revoke(Long.toString(jti), EXPIRES_AT, "kim");
+        store.revoke(Long.toString(jti + 1), EXPIRES_AT + 1_000, "lee");
+
+        String bucketKey = "bl:" + EXPIRES_AT / BUCKET_MILLIS;
+        assertThat(template.keys("*")).containsExactly(bucketKey);
+        try (RedisConnection connection = factory.getConnection()) {
+            assertThat(connection.setCommands().sMembers(bytes(bucketKey)))
+                    .hasSize(2)
+                    .allSatisfy(member -> assertThat(member).hasSize(Long.BYTES))
+                    .anySatisfy(member -> assertThat(member).isEqualTo(ByteBuffer.allocate(Long.BYTES).putLong(jti).array()));
+        }
+        // 버킷 끝 + 버킷 하나에 만료
+        long bucketExpiresAt = (EXPIRES_AT / BUCKET_MILLIS + 2) * BUCKET_MILLIS;
+        assertThat(System.currentTimeMillis() + template.getExpire(bucketKey, TimeUnit.MILLISECONDS))
+                .isBetween(bucketExpiresAt - 5_000, bucketExpiresAt);
+
+        // 다른 인스턴스(스냅샷 없음)에서도 차단된다. 버킷이 다르면 같은 jti라도 별개다
+        RedisTokenStore other = store(false);
+        assertThat(other.isBlacklisted(Long.toString(jti), EXPIRES_AT)).isTrue();
+        assertThat(other.isBlacklisted(Long.toString(jti + 2), EXPIRES_AT)).isFalse();
+        assertThat(other.isBlacklisted(Long.toString(jti), EXPIRES_AT + BUCKET_MILLIS)).isFalse();
+    }
+
+    @Test
+    void 리프레시_토큰은_원문_대신_SHA256_해시만_저장한다() {
+        RedisTokenStore store = store(false);
+        String refreshToken = "header.payload-" + "x".repeat(200) + ".signature";
+
+        store.saveRefreshToken("kim", refreshToken, TTL);
+
+        byte[] stored;
+        try (RedisConnection connection = factory.getConnection()) {
+            stored = connection.stringCommands().get(bytes("rt:kim"));
+        }
+        assertThat(stored).hasSize(32);
+        assertThat(template.getExpire("rt:kim", TimeUnit.MILLISECONDS)).isBetween(1L, TTL);
+        assertThat(store.matchesRefreshToken("kim", refreshToken)).isTrue();
+        assertThat(store.matchesRefreshToken("kim", refreshToken + "x")).isFalse();
+        assertThat(store.matchesRefreshToken("lee", refreshToken)).isFalse();
+
+        store.revoke("1", EXPIRES_AT, "kim");
+        assertThat(store.matchesRefreshToken("kim", refreshToken)).isFalse();
+    }
+
+    @Test
+    void Snowflake가_아닌_jti는_문자열_그대로_멤버로_쓴다() {
+        assertThat(RedisTokenStore.member("42")).hasSize(Long.BYTES);
+        assertThat(RedisTokenStore.member("18c2f0a9b3e1")).isEqualTo(bytes("18c2f0a9b3e1"));
+        assertThat(RedisTokenStore.member("042")).isEqualTo(bytes("042"));
+        assertThat(RedisTokenStore.member("-1")).isEqualTo(bytes("-1"));
+
+        RedisTokenStore store = store(false);
+        store.revoke("18c2f0a9b3e1", EXPIRES_AT, "kim");
+        assertThat(store(false).isBlacklisted("18c2f0a9b3e1", EXPIRES_AT)).isTrue();
+    }
+
+    @Test
+    void 이전_구조의_키는_fallback이_켜져_있을_때만_인정하고_로그아웃하면_함께_지운다() {
+        template.opsForValue().set("blacklist:18c2f0a9b3e1", "true", TTL, TimeUnit.MILLISECONDS);
+        template.opsForValue().set("refresh:kim", "legacy-refresh-kim", TTL, TimeUnit.MILLISECONDS);
+
+        RedisTokenStore legacyAware = store(true);
+        assertThat(legacyAware.isBlacklisted("18c2f0a9b3e1", EXPIRES_AT)).isTrue();
+        assertThat(legacyAware.isBlacklisted("18c2f0a9b3e2", EXPIRES_AT)).isFalse();
+        assertThat(legacyAware.matchesRefreshToken("kim", "legacy-refresh-kim")).isTrue();
+        assertThat(legacyAware.matchesRefreshToken("kim", "other")).isFalse();
+
+        RedisTokenStore newOnly = store(false);
+        assertThat(newOnly.isBlacklisted("18c2f0a9b3e1", EXPIRES_AT)).isFalse();
+        assertThat(newOnly.matchesRefreshToken("kim", "legacy-refresh-kim")).isFalse();
+
+        // 새 구조에 저장된 값이 있으면 이전 키보다 우선한다
+        legacyAware.saveRefreshToken("kim", "new-refresh-kim", TTL);
+        assertThat(legacyAware.matchesRefreshToken("kim", "new-refresh-kim")).isTrue();
+        assertThat(legacyAware.matchesRefreshToken("kim", "legacy-refresh-kim")).isFalse();
+
+        legacyAware.revoke("1", EXPIRES_AT, "kim");
+        assertThat(template.hasKey("rt:kim")).isFalse();
+        assertThat(template.hasKey("refresh:kim")).isFalse();
+    }
+
+    @Test
+    void 리프레시_토큰은_다시_로그인하거나_로그아웃하면_더_이상_유효하지_않다() {
+        JwtTokenProvider provider = new JwtTokenProvider("h1o2n3gg5i6l7d8o9n0gh1o2n3gg5i6l7d8o9n0g",
+                username -> null, store(false), new AuthMetrics(new SimpleMeterRegistry()));
+
+        String first = provider.createRefreshToken("kim");
+        assertThat(provider.isValidRefreshToken(first)).isTrue();
+
+        // 다시 로그인하면 이전 리프레시 토큰은 서명이 유효해도 거절된다
+        String second = provider.createRefreshToken("kim");
+        assertThat(provider.isValidRefreshToken(first)).isFalse();
+        assertThat(provider.isValidRefreshToken(second)).isTrue();
+
+        provider.revoke(provider.createAccessToken("kim", "USER"));
+        assertThat(provider.isValidRefreshToken(second)).isFalse();
+    }
+
+    @Test
+    void 블랙리스트_조회는_풀의_전용_커넥션을_빌리지_않는다() {
+        GenericObjectPoolConfig<?> pool = new GenericObjectPoolConfig<>();
+        // 공유 커넥션 하나 + 전용 커넥션 하나
+        pool.setMaxTotal(2);
+        pool.setMaxWait(Duration.ofMillis(50));
+        LettuceConnectionFactory pooled = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getBindPort()),
+                LettucePoolingClientConfiguration.builder().poolConfig(pool).build());
+        pooled.afterPropertiesSet();
+        pooled.start();
+        StringRedisTemplate pooledTemplate = new StringRedisTemplate(pooled);
+        template.opsForValue().set("blacklist:18c2f0a9b3e1", "true", TTL, TimeUnit.MILLISECONDS);
+        // 조회가 실패하면 closed 정책이 true를 돌려주므로, 없는 토큰이 false면 Redis가 응답한 것이다
+        RedisTokenStore store = new RedisTokenStore(pooledTemplate, pooledTemplate,
+                new AuthMetrics(new SimpleMeterRegistry()), CircuitBreaker.ofDefaults("redis"),
+                new BlacklistSnapshot(1_000), "closed", BUCKET_MILLIS / 1_000, true);
+        store(false).revoke("1", EXPIRES_AT, "kim");
+        assertThat(store.isBlacklisted("2", EXPIRES_AT)).isFalse();
+
+        // 남은 전용 커넥션을 파이프라인이 점유한 상태에서도 조회는 공유 커넥션으로 응답한다
+        try (RedisConnection busy = pooled.getConnection()) {
+            busy.openPipeline();
+            assertThat(store.isBlacklisted("1", EXPIRES_AT)).isTrue();
+            assertThat(store.isBlacklisted("18c2f0a9b3e1", EXPIRES_AT)).isTrue();
+            assertThat(store.isBlacklisted("2", EXPIRES_AT)).isFalse();
+            busy.closePipeline();
+        } finally {
+            pooled.destroy();
+        }
+    }
+
+    private RedisTokenStore store(boolean legacyFallback) {
+        return new RedisTokenStore(template, template, new AuthMetrics(new SimpleMeterRegistry()),
+                CircuitBreaker.ofDefaults("redis"), new BlacklistSnapshot(1_000), "open",
+                BUCKET_MILLIS / 1_000, legacyFallback);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
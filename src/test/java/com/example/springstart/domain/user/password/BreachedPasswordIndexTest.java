@@ -0,0 +1,103 @@
+package com.example.springstart.domain.user.password;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BreachedPasswordIndexTest {
+
+    private static final HexFormat HEX = HexFormat.of().withUpperCase();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 색인에_넣은_해시만_찾는다() throws Exception {
+        Random random = new Random(7);
+        List<byte[]> corpus = randomHashes(random, 5000);
+        corpus.add(sha1("password"));
+        corpus.add(sha1("123456"));
+        Path indexFile = build(corpus, 1, 8);
+
+        // 레코드 100건 단위로 나눠 매핑해 조각 경계의 탐색도 확인한다
+        BreachedPasswordIndex index = BreachedPasswordIndex.open(indexFile, 100 * 8);
+
+        assertThat(index.size()).isEqualTo(corpus.size());
+        assertThat(corpus).allSatisfy(hash -> assertThat(index.contains(hash)).isTrue());
+        assertThat(randomHashes(random, 5000)).noneSatisfy(hash -> assertThat(index.contains(hash)).isTrue());
+    }
+
+    @Test
+    void 자른_해시가_같은_항목은_하나만_저장한다() throws Exception {
+        byte[] first = sha1("password");
+        byte[] second = first.clone();
+        second[19] ^= 1;
+        Path indexFile = build(new ArrayList<>(List.of(first, second)), 2, 6);
+
+        assertThat(BreachedPasswordIndex.open(indexFile).size()).isEqualTo(1);
+    }
+
+    @Test
+    void 정렬되지_않은_덤프는_거부한다() throws Exception {
+        List<byte[]> hashes = new ArrayList<>(List.of(sha1("a"), sha1("b")));
+        hashes.sort(Arrays::compareUnsigned);
+        Path dump = directory.resolve("dump.txt");
+        Files.writeString(dump, HEX.formatHex(hashes.get(1)) + ":3\n" + HEX.formatHex(hashes.get(0)) + ":5\n");
+        Path indexFile = directory.resolve("breached.idx");
+
+        assertThatThrownBy(() -> BreachedPasswordIndexBuilder.build(dump, indexFile, 2, 6))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2번째 줄");
+        assertThat(indexFile).doesNotExist();
+    }
+
+    @Test
+    void 색인이_설정되지_않으면_검사하지_않는다() throws Exception {
+        assertThat(new BreachedPasswordChecker("").isBreached("password")).isFalse();
+
+        BreachedPasswordChecker checker = new BreachedPasswordChecker(
+                build(new ArrayList<>(List.of(sha1("password"))), 2, 6).toString());
+        assertThat(checker.isBreached("password")).isTrue();
+        assertThat(checker.isBreached("correct horse battery staple")).isFalse();
+    }
+
+    private Path build(List<byte[]> hashes, int bucketBytes, int suffixBytes) throws IOException {
+        hashes.sort(Arrays::compareUnsigned);
+        Path dump = directory.resolve("dump.txt");
+        StringBuilder lines = new StringBuilder();
+        for (byte[] hash : hashes) {
+            lines.append(HEX.formatHex(hash)).append(':').append(1).append('\n');
+        }
+        Files.writeString(dump, lines, StandardCharsets.US_ASCII);
+        Path indexFile = directory.resolve("breached.idx");
+        BreachedPasswordIndexBuilder.build(dump, indexFile, bucketBytes, suffixBytes);
+        return indexFile;
+    }
+
+    private static List<byte[]> randomHashes(Random random, int count) {
+        List<byte[]> hashes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            byte[] hash = new byte[20];
+            random.nextBytes(hash);
+            hashes.add(hash);
+        }
+        return hashes;
+    }
+
+    private static byte[] sha1(String password) throws Exception {
+        return MessageDigest.getInstance("SHA-1").digest(password.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.springstart.domain.user.repository;
+
+import com.example.springstart.domain.user.dto.CustomUserDetails;
+import com.example.springstart.domain.user.entity.User;
+import com.example.springstart.domain.user.entity.UserRoleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:repository;MODE=MariaDB;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        save("user");
+    }
+
+    private User save(String username) {
+        return userRepository.saveAndFlush(User.builder()
+                .username(username)
+                .password("encoded")
+                .role(UserRoleType.USER)
+                .email(username + "@example.com")
+                .build());
+    }
+
+    private User reload() {
+        return userRepository.findByUsername("user").orElseThrow();
+    }
+
+    @Test
+    void 밴_여부만_변경한다() {
+        assertThat(userRepository.updateBanByUsername("user", true)).isEqualTo(1);
+
+        User user = reload();
+        assertThat(user.getBanned()).isTrue();
+        assertThat(user.getPassword()).isEqualTo("encoded");
+        assertThat(user.getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    void 비밀번호_오류_횟수를_증가시키고_초기화한다() {
+        userRepository.incrementPasswordErrorCount("user");
+        userRepository.incrementPasswordErrorCount("user");
+        assertThat(reload().getPasswordErrorCount()).isEqualTo(2);
+
+        userRepository.resetPasswordErrorCount("user");
+        assertThat(reload().getPasswordErrorCount()).isZero();
+    }
+
+    @Test
+    void 비밀번호만_변경한다() {
+        userRepository.updatePasswordByUsername("user", "changed");
+
+        User user = reload();
+        assertThat(user.getPassword()).isEqualTo("changed");
+        assertThat(user.getEmail()).isEqualTo("user@example.com");
+    }
+
+    @Test
+    void 인증_주체는_필요한_컬럼만_읽어_만든다() {
+        User saved = reload();
+        for (int i = 0; i <= User.MAX_PASSWORD_ERROR_COUNT; i++) {
+            userRepository.incrementPasswordErrorCount("user");
+        }
+        userRepository.updateBanByUsername("user", true);
+
+        CustomUserDetails principal = userRepository.findPrincipalByUsername("user").orElseThrow();
+
+        assertThat(principal.getId()).isEqualTo(saved.getId());
+        assertThat(principal.getUsername()).isEqualTo("user");
+        assertThat(principal.getPassword()).isNull();
+        assertThat(principal.getAuthorities()).isSameAs(UserRoleType.USER.getAuthorities());
+        assertThat(principal.isEnabled()).isFalse();
+        assertThat(principal.isAccountNonLocked()).isFalse();
+        assertThat(userRepository.findPrincipalByUsername("nobody")).isEmpty();
+    }
+
+    @Test
+    void 없는_사용자는_변경된_행이_없다() {
+        assertThat(userRepository.updateBanByUsername("nobody", true)).isZero();
+        assertThat(userRepository.deleteByUsername("nobody")).isZero();
+    }
+
+    @Test
+    void 사용자명으로_삭제한다() {
+        assertThat(userRepository.deleteByUsername("user")).isEqualTo(1);
+        assertThat(userRepository.existsByUsername("user")).isFalse();
+    }
+
+    @Test
+    void 목록으로_일괄_밴한다() {
+        save("a");
+        save("b");
+
+        assertThat(userRepository.updateBanByUsernameIn(List.of("a", "b", "nobody"), true)).isEqualTo(2);
+
+        assertThat(userRepository.findByUsername("a").orElseThrow().getBanned()).isTrue();
+        assertThat(userRepository.findByUsername("user").orElseThrow().getBanned()).isFalse();
+    }
+
+    @Test
+    void 잠긴_계정만_id_순으로_찾는다() {
+        User a = save("a");
+        User b = save("b");
+        for (int i = 0; i <= User.MAX_PASSWORD_ERROR_COUNT; i++) {
+            userRepository.incrementPasswordErrorCount("a");
+            userRepository.incrementPasswordErrorCount("b");
+        }
+
+        assertThat(userRepository.findLockedAfter(0L, User.MAX_PASSWORD_ERROR_COUNT, PageRequest.ofSize(10)))
+                .extracting(UserRepository.UserKey::getId, UserRepository.UserKey::getUsername)
+                .containsExactly(tuple(a.getId(), "a"), tuple(b.getId(), "b"));
+        assertThat(userRepository.findLockedAfter(a.getId(), User.MAX_PASSWORD_ERROR_COUNT, PageRequest.ofSize(10)))
+                .extracting(UserRepository.UserKey::getId)
+                .containsExactly(b.getId());
+
+        assertThat(userRepository.resetPasswordErrorCountByIdIn(List.of(a.getId(), b.getId()))).isEqualTo(2);
+        assertThat(userRepository.findLockedAfter(0L, User.MAX_PASSWORD_ERROR_COUNT, PageRequest.ofSize(10))).isEmpty();
+    }
+
+    @Test
+    void 목록으로_일괄_삭제한다() {
+        save("a");
+
+        assertThat(userRepository.deleteByUsernameIn(List.of("a", "user"))).isEqualTo(2);
+        assertThat(userRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.springstart.domain.user.service;
+
+import com.example.springstart.domain.user.entity.User;
+import com.example.springstart.domain.user.entity.UserRoleType;
+import com.example.springstart.domain.user.metrics.AuthMetrics;
+import com.example.springstart.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 사용자 이름의 동시 조회 합치기 테스트
+ * - Hibernate StatementInspector로 실제로 DB에 보낸 SELECT 수를 세고, 조회마다 지연을 넣어 느린 DB를 흉내 낸다.
+ * - 스레드들이 서로 다른 트랜잭션에서 조회하므로 테스트 트랜잭션 없이 실행한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({UserDetailsServiceImpl.class, AuthMetrics.class, UserDetailsServiceImplTest.MetricsConfig.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-details;MODE=MariaDB;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.springstart.domain.user.service.UserDetailsServiceImplTest$SlowSelectCounter"
+})
+class UserDetailsServiceImplTest {
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    @BeforeEach
+    void setUp() {
+        userRepository.saveAndFlush(User.builder()
+                .username("service-account")
+                .password("encoded")
+                .role(UserRoleType.USER)
+                .email("service-account@example.com")
+                .build());
+        SlowSelectCounter.selects.set(0);
+        SlowSelectCounter.delayMillis = 300;
+    }
+
+    @AfterEach
+    void tearDown() {
+        SlowSelectCounter.delayMillis = 0;
+        executor.shutdownNow();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 같은_사용자_이름의_동시_조회는_쿼리_한_번으로_합친다() throws Exception {
+        double leadersBefore = lookups("leader");
+        double sharedBefore = lookups("shared");
+
+        List<UserDetails> results = new ArrayList<>();
+        for (Future<UserDetails> future : loadConcurrently("service-account")) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+
+        assertThat(SlowSelectCounter.selects).hasValue(1);
+        assertThat(results).hasSize(THREADS)
+                .allSatisfy(userDetails -> assertThat(userDetails.getUsername()).isEqualTo("service-account"));
+        assertThat(lookups("leader") - leadersBefore).isEqualTo(1);
+        assertThat(lookups("shared") - sharedBefore).isEqualTo(THREADS - 1);
+
+        // 결과를 보관하지 않으므로 끝난 뒤의 조회는 다시 쿼리를 보낸다
+        userDetailsService.loadUserByUsername("service-account");
+        assertThat(SlowSelectCounter.selects).hasValue(2);
+    }
+
+    @Test
+    void 없는_사용자도_쿼리_한_번의_결과를_모든_요청이_받는다() throws Exception {
+        for (Future<UserDetails> future : loadConcurrently("nobody")) {
+            assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(UsernameNotFoundException.class);
+        }
+        assertThat(SlowSelectCounter.selects).hasValue(1);
+    }
+
+    /**
+     * THREADS개 스레드가 동시에 같은 사용자 이름을 조회하게 하는 메서드
+     */
+    private List<Future<UserDetails>> loadConcurrently(String username) {
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        List<Future<UserDetails>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return userDetailsService.loadUserByUsername(username);
+            }));
+        }
+        return futures;
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("auth.user.lookups").tag("result", result).counter().count();
+    }
+
+    /**
+     * SELECT 수를 세고, 설정된 만큼 지연시키는 StatementInspector (Hibernate가 리플렉션으로 만든다)
+     */
+    public static class SlowSelectCounter implements StatementInspector {
+
+        static final AtomicInteger selects = new AtomicInteger();
+        static volatile long delayMillis;
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.regionMatches(true, 0, "select", 0, 6)) {
+                selects.incrementAndGet();
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return sql;
+        }
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
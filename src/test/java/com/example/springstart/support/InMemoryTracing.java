@@ -0,0 +1,45 @@
+package com.example.springstart.support;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
+import java.util.List;
+
+/**
+ * 외부 수집기 없이 span을 메모리에 모으는 테스트용 트레이싱 구성
+ * - 실제 OpenTelemetry 브리지를 사용하므로 운영과 같은 방식으로 span이 만들어진다.
+ */
+public class InMemoryTracing {
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    public InMemoryTracing() {
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+        OtelTracer tracer = new OtelTracer(
+                tracerProvider.get("test"),
+                currentTraceContext,
+                event -> { },
+                new OtelBaggageManager(currentTraceContext, List.of(), List.of()));
+
+        observationRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+    }
+
+    public ObservationRegistry observationRegistry() {
+        return observationRegistry;
+    }
+
+    public List<SpanData> finishedSpans() {
+        return exporter.getFinishedSpanItems();
+    }
+}
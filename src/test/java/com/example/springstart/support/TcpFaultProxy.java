@@ -0,0 +1,138 @@
+package com.example.springstart.support;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 장애 주입용 로컬 TCP 프록시
+ * - 클라이언트와 대상 서버 사이에서 바이트를 그대로 전달하다가, 모드를 바꾸면 지연/무응답/연결 끊김을 흉내 낸다.
+ * - LATENCY: 서버 → 클라이언트 응답을 지정한 시간만큼 늦춘다.
+ * - BLACKHOLE: 연결은 유지하지만 클라이언트 요청을 서버로 보내지 않는다. (응답 없음)
+ * - DROP: 기존 연결을 모두 끊고, 새 연결은 받자마자 끊는다.
+ */
+public class TcpFaultProxy implements Closeable {
+
+    public enum Mode {
+        PASS,
+        LATENCY,
+        BLACKHOLE,
+        DROP
+    }
+
+    private final ServerSocket serverSocket;
+    private final String targetHost;
+    private final int targetPort;
+    private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "tcp-fault-proxy");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Mode mode = Mode.PASS;
+    private volatile long latencyMillis;
+
+    public TcpFaultProxy(String targetHost, int targetPort) throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.targetHost = targetHost;
+        this.targetPort = targetPort;
+        executor.execute(this::acceptLoop);
+    }
+
+    public String getHost() {
+        return serverSocket.getInetAddress().getHostAddress();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public void pass() {
+        mode = Mode.PASS;
+    }
+
+    public void latency(long millis) {
+        latencyMillis = millis;
+        mode = Mode.LATENCY;
+    }
+
+    public void blackhole() {
+        mode = Mode.BLACKHOLE;
+    }
+
+    public void drop() {
+        mode = Mode.DROP;
+        sockets.forEach(TcpFaultProxy::closeQuietly);
+        sockets.clear();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                if (mode == Mode.DROP) {
+                    closeQuietly(client);
+                    continue;
+                }
+                Socket upstream = new Socket(targetHost, targetPort);
+                client.setTcpNoDelay(true);
+                upstream.setTcpNoDelay(true);
+                sockets.add(client);
+                sockets.add(upstream);
+                executor.execute(() -> pump(client, upstream, false));
+                executor.execute(() -> pump(upstream, client, true));
+            } catch (IOException e) {
+                // 프록시 종료 또는 대상 서버 연결 실패 - 다음 연결을 기다린다
+            }
+        }
+    }
+
+    private void pump(Socket from, Socket to, boolean response) {
+        byte[] buffer = new byte[8192];
+        try (InputStream in = from.getInputStream(); OutputStream out = to.getOutputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                Mode current = mode;
+                if (current == Mode.BLACKHOLE && !response) {
+                    continue;
+                }
+                if (current == Mode.LATENCY && response) {
+                    Thread.sleep(latencyMillis);
+                }
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        } catch (IOException | InterruptedException e) {
+            // 상대편이 끊겼거나 DROP으로 닫힘
+        } finally {
+            closeQuietly(from);
+            closeQuietly(to);
+            sockets.remove(from);
+            sockets.remove(to);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // 이미 닫힘
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        sockets.forEach(TcpFaultProxy::closeQuietly);
+        executor.shutdownNow();
+    }
+}